@@ -0,0 +1,111 @@
+package com.playdata.petevent.api.batch.writer;
+
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import com.playdata.petevent.api.client.StreamingAnimalPageParser;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.util.AnimalFingerprint;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Writer의 변경 감지 비용 (기록해 둔 API 응답 한 페이지, 100건 기준).
+ * - fingerprint: 내용 지문(AnimalFingerprint.of) 계산 (Reader가 데이터마다 한 번 실행)
+ * - classify: 저장된 지문과 비교해 신규/변경/변경 없음으로 분류 (Writer.write의 분류 단계)
+ * - updateIfChangedUnchanged: 값이 같은 데이터에 AnimalsEntity.updateIfChanged 실행 (필드 비교만)
+ * - updateIfChangedChanged: 보호 상태/체중이 바뀐 데이터에 AnimalsEntity.updateIfChanged 실행 (필드 대입 + 변경 목록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimalChangeDetectionBenchmark {
+
+    // DB에 저장되어 있는 상태
+    private List<AnimalsEntity> stored;
+
+    // API에서 다시 받은 같은 내용
+    private List<AnimalsEntity> sameContent;
+
+    // API에서 다시 받은 바뀐 내용 (보호 상태, 체중 표기)
+    private List<AnimalsEntity> changedContent;
+
+    // 유기번호 → 저장된 지문 (절반은 바뀐 내용의 지문으로 기록해 변경 데이터가 섞이게 함)
+    private Map<String, Long> storedHashes;
+
+    // updateIfChangedChanged에서 두 내용을 번갈아 적용하기 위한 호출 횟수
+    private int round = 0;
+
+    @Setup
+    public void loadFixture() throws IOException {
+        String json;
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/abandonment-page.json")) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        stored = parse(json);
+        sameContent = parse(json);
+        changedContent = parse(json.replace("\"보호중\"", "\"종료(입양)\"").replace("(Kg)\"", "0(Kg)\""));
+
+        storedHashes = new HashMap<>();
+        for (int i = 0; i < stored.size(); i++) {
+            AnimalsEntity animal = i % 2 == 0 ? stored.get(i) : changedContent.get(i);
+            storedHashes.put(animal.getDesertionNo(), animal.getContentHash());
+        }
+    }
+
+    @Benchmark
+    public void fingerprint(Blackhole bh) {
+        for (AnimalsEntity animal : sameContent) {
+            bh.consume(AnimalFingerprint.of(animal));
+        }
+    }
+
+    @Benchmark
+    public void classify(Blackhole bh) {
+        for (AnimalsEntity incoming : sameContent) {
+            Long storedHash = storedHashes.get(incoming.getDesertionNo());
+            bh.consume(storedHash != null && Objects.equals(storedHash, incoming.getContentHash()));
+        }
+    }
+
+    @Benchmark
+    public void updateIfChangedUnchanged(Blackhole bh) {
+        for (int i = 0; i < stored.size(); i++) {
+            bh.consume(stored.get(i).updateIfChanged(sameContent.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void updateIfChangedChanged(Blackhole bh) {
+        // 매번 실제로 값이 바뀌도록 두 내용을 번갈아 적용
+        List<AnimalsEntity> source = (round++ & 1) == 0 ? changedContent : sameContent;
+        for (int i = 0; i < stored.size(); i++) {
+            bh.consume(stored.get(i).updateIfChanged(source.get(i)));
+        }
+    }
+
+    private static List<AnimalsEntity> parse(String json) throws IOException {
+        AnimalPage page = new StreamingAnimalPageParser()
+                .parse("protect", 1, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return page.items();
+    }
+}
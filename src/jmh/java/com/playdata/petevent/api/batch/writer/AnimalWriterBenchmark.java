@@ -0,0 +1,175 @@
+package com.playdata.petevent.api.batch.writer;
+
+import com.playdata.petevent.PetEventApplication;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.repository.AnimalsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JPA Writer(AnimalCustomItemWriter)와 JDBC upsert Writer(AnimalJdbcItemWriter)의 초당 처리 행 수 비교.
+ * - insert: 매번 새로운 유기번호 300건을 저장
+ * - update: 같은 유기번호 300건의 체중 값을 매번 바꿔서 저장
+ *   (API 응답 파서와 같이 변환 컬럼과 contentHash를 계산하므로 매 호출 모든 행이 "변경" 경로로 분류됨)
+ *
+ * 결과 단위(ops/s)는 OperationsPerInvocation으로 Chunk 크기를 나누었으므로 "행/초"이다.
+ * bench 프로필(application-bench.yml)의 H2(MySQL 모드) 데이터베이스를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AnimalWriterBenchmark {
+
+    private static final int CHUNK_SIZE = 300;
+
+    @Param({"jpa", "jdbc"})
+    private String writerType;
+
+    @Param({"insert", "update"})
+    private String scenario;
+
+    private ConfigurableApplicationContext context;
+
+    private ItemWriter<AnimalsEntity> writer;
+
+    private TransactionTemplate transactionTemplate;
+
+    // 벤치마크 호출 횟수 (유기번호/변경 값 생성용)
+    private int round = 0;
+
+    private Chunk<AnimalsEntity> chunk;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(PetEventApplication.class)
+                .profiles("bench")
+                .run();
+
+        writer = "jdbc".equals(writerType)
+                ? context.getBean(AnimalJdbcItemWriter.class)
+                : context.getBean(AnimalCustomItemWriter.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        // update 시나리오: 갱신 대상이 될 데이터를 미리 저장
+        if ("update".equals(scenario)) {
+            writeChunk(newChunk(0, 0));
+            verifyUpdatePath(context.getBean(AnimalsRepository.class));
+        }
+    }
+
+    /**
+     * 다음 호출의 데이터가 저장된 지문과 모두 달라서 markSynced가 아닌 변경(findAllById/updateIfChanged 또는 upsert)
+     * 경로로 분류되는지 확인한다. 지문이 null이면 null == null로 모두 "변경 없음"이 되어 측정이 무의미해진다.
+     */
+    private void verifyUpdatePath(AnimalsRepository animalsRepository) {
+        List<AnimalsEntity> next = newChunk(0, 1).getItems();
+        Map<String, Long> stored = animalsRepository.findContentHashMap(
+                next.stream().map(AnimalsEntity::getDesertionNo).toList());
+        for (AnimalsEntity incoming : next) {
+            Long storedHash = stored.get(incoming.getDesertionNo());
+            if (storedHash == null || Objects.equals(storedHash, incoming.getContentHash())) {
+                throw new IllegalStateException("update 시나리오의 데이터가 변경 경로로 분류되지 않음: " + incoming.getDesertionNo());
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareChunk() {
+        round++;
+        long firstId = "insert".equals(scenario) ? (long) round * CHUNK_SIZE : 0;
+        chunk = newChunk(firstId, round);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void write() {
+        writeChunk(chunk);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    // Step과 동일하게 Chunk 하나를 하나의 트랜잭션으로 기록
+    // Writer가 동기화 실행 번호를 Step 컨텍스트에서 읽으므로 호출 스레드에 Step 실행 정보를 등록
+    private void writeChunk(Chunk<AnimalsEntity> items) {
+        StepSynchronizationManager.register(new StepExecution("apiToDbStep",
+                new JobExecution(new JobInstance(1L, "syncAnimalJob"), 1L, new JobParameters())));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    writer.write(items);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    private Chunk<AnimalsEntity> newChunk(long firstId, int version) {
+        List<AnimalsEntity> items = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            AnimalsEntity animal = AnimalsEntity.builder()
+                    .desertionNo(String.valueOf(411300202500000L + firstId + i))
+                    .happenDt("20250610")
+                    .happenPlace("봉담읍 상리 도로변")
+                    .upKindNm("개")
+                    .kindNm("믹스견")
+                    .colorCd("흰색&갈색")
+                    .age("2023(년생)")
+                    .weight((version % 20 + 1) + "(Kg)")
+                    .noticeSdt("20250611")
+                    .noticeEdt("20250621")
+                    .popfile1("http://openapi.animal.go.kr/openapi/service/rest/fileDownloadSrvc/files/shelter/2025/06/202506111206123.jpg")
+                    .processState("보호중")
+                    .sexCd(AnimalsEntity.SexCode.M)
+                    .neuterYn(AnimalsEntity.NeuterYn.N)
+                    .specialMark("목걸이 착용, 사람을 잘 따름")
+                    .careNm("화성시동물보호센터")
+                    .careTel("031-8015-8512")
+                    .careAddr("경기도 화성시 마도면 화성로 1171")
+                    .careOwnerNm("화성시청")
+                    .orgNm("경기도 화성시")
+                    .build();
+            // API 응답 파서와 동일하게 변환 컬럼과 지문 계산 (없으면 모든 지문이 null이라 변경 감지가 동작하지 않음)
+            animal.refreshTypedFields();
+            animal.refreshContentHash();
+            items.add(animal);
+        }
+        return new Chunk<>(items);
+    }
+}
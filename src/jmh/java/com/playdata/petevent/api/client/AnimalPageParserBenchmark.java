@@ -0,0 +1,57 @@
+package com.playdata.petevent.api.client;
+
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * API 응답 한 페이지(100건)를 AnimalPage로 변환하는 비용 비교.
+ * - jsonTree: 기존 방식 (JsonNode 트리 생성 후 item.path(...) 조회)
+ * - streaming: JsonParser 토큰 단위로 읽어 바로 엔티티 생성
+ *
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 페이지당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimalPageParserBenchmark {
+
+    private final AnimalPageParser treeParser = new JsonTreeAnimalPageParser();
+
+    private final AnimalPageParser streamingParser = new StreamingAnimalPageParser();
+
+    // 실제 API 응답 형식으로 기록해 둔 페이지 (src/jmh/resources/fixtures)
+    private byte[] page;
+
+    @Setup
+    public void loadFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/abandonment-page.json")) {
+            page = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public AnimalPage jsonTree() throws IOException {
+        return treeParser.parse("protect", 1, new ByteArrayInputStream(page));
+    }
+
+    @Benchmark
+    public AnimalPage streaming() throws IOException {
+        return streamingParser.parse("protect", 1, new ByteArrayInputStream(page));
+    }
+}
@@ -0,0 +1,71 @@
+package com.playdata.petevent.api.util;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * SafeEnumParser의 코드 변환 비용 (유효한 코드 / 잘못된 코드).
+ * - valueOfWithFallback: 예외로 잘못된 코드를 처리하던 방식 (Enum.valueOf + catch), 비교 기준
+ *
+ * 결과는 코드 한 건당 시간이다 (OperationsPerInvocation = 코드 수).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SafeEnumParserBenchmark {
+
+    private static final int CODES = 8;
+
+    // API가 실제로 보내는 코드
+    private final String[] validSexCodes = {"M", "F", "Q", "M", "F", "M", "Q", "F"};
+    private final String[] validNeuterCodes = {"Y", "N", "U", "Y", "N", "N", "U", "Y"};
+
+    // 소문자, 공백, 빈 문자열, 알 수 없는 값, null
+    private final String[] invalidCodes = {"m", " F", "", "X", "MALE", null, "?", "N "};
+
+    @Benchmark
+    @OperationsPerInvocation(CODES * 2)
+    public void validCodes(Blackhole bh) {
+        for (int i = 0; i < CODES; i++) {
+            bh.consume(SafeEnumParser.parseSexCode(validSexCodes[i]));
+            bh.consume(SafeEnumParser.parseNeuterYn(validNeuterCodes[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODES * 2)
+    public void invalidCodes(Blackhole bh) {
+        for (int i = 0; i < CODES; i++) {
+            bh.consume(SafeEnumParser.parseSexCode(invalidCodes[i]));
+            bh.consume(SafeEnumParser.parseNeuterYn(invalidCodes[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CODES)
+    public void invalidCodesValueOfWithFallback(Blackhole bh) {
+        for (int i = 0; i < CODES; i++) {
+            AnimalsEntity.SexCode sexCode;
+            try {
+                sexCode = AnimalsEntity.SexCode.valueOf(invalidCodes[i]);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                sexCode = AnimalsEntity.SexCode.Q;
+            }
+            bh.consume(sexCode);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.playdata.petevent.util.crawler;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * NaverPetEventCrawler.generateHash (행사 제목 + URL + 장소를 이어 붙인 MD5) 한 건의 비용.
+ * 크롤링한 행사마다 중복 확인용으로 호출된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NaverPetEventCrawlerHashBenchmark {
+
+    private final String eventTitle = "2025 서울 펫쇼 - 반려동물 박람회 (코엑스 A홀)";
+
+    private final String eventUrl = "https://search.naver.com/search.naver?where=nexearch&query=%EB%B0%98%EB%A0%A4%EB%8F%99%EB%AC%BC+%ED%96%89%EC%82%AC";
+
+    private final String location = "서울특별시 강남구 영동대로 513 코엑스";
+
+    @Benchmark
+    public String generateHash() {
+        return NaverPetEventCrawler.generateHash(eventTitle, eventUrl, location);
+    }
+
+    @Benchmark
+    public String generateHashWithNull() {
+        return NaverPetEventCrawler.generateHash(eventTitle, eventUrl, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.playdata.petevent.api.batch;
+
+/**
+ * 유기동물 동기화 방식 (syncMode 파라미터).
+ * - FULL: 전체 데이터를 내려받고, API에 없어진 데이터를 정리(삭제)까지 수행 (syncAnimalJob)
+ * - DELTA: 마지막 동기화 시점(워터마크) 이후 날짜의 데이터만 내려받음 (syncAnimalJob, 삭제 정리는 하지 않음)
+ * - REFRESH: 전체 데이터를 스테이징 테이블에 적재한 뒤 운영 테이블과 교체 (fullRefreshAnimalJob)
+ */
+public enum SyncMode {
+    FULL,
+    DELTA,
+    REFRESH
+}
@@ -0,0 +1,42 @@
+package com.playdata.petevent.api.batch.partitioner;
+
+import com.playdata.petevent.api.batch.reader.AnimalApiItemReader;
+import com.playdata.petevent.api.config.AnimalSyncProperties;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Batch의 Partitioner 구현체.
+ * 동기화 범위를 보호 상태(protect/notice) × 시도 코드(upr_cd)로 나눈다.
+
+ * - 파티션마다 ExecutionContext에 state, uprCd를 담고, 워커 Step의 Reader가 이를 조회 조건으로 사용.
+ * - 파티션 수 = 보호 상태 수 × animal.sync.region-codes 수 (gridSize는 사용하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnimalSyncPartitioner implements Partitioner {
+
+    private final AnimalSyncProperties syncProperties;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        if (syncProperties.getRegionCodes().isEmpty()) {
+            throw new IllegalStateException("animal.sync.region-codes가 비어 있어 파티션을 나눌 수 없습니다.");
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (String state : AnimalApiItemReader.STATES) {
+            for (String uprCd : syncProperties.getRegionCodes()) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString("state", state);
+                context.putString("uprCd", uprCd);
+                partitions.put("partition-" + state + "-" + uprCd, context);
+            }
+        }
+        return partitions;
+    }
+}
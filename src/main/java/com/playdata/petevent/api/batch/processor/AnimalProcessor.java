@@ -1,6 +1,7 @@
 package com.playdata.petevent.api.batch.processor;
 
 import com.playdata.petevent.api.entity.AnimalsEntity;
+import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
@@ -8,14 +9,31 @@ import org.springframework.stereotype.Component;
  * Spring Batch의 ItemProcessor 인터페이스 구현체.
  * 배치 처리 시 읽어온 데이터를 가공하거나 필터링하는 역할을 함.
 
- * 현재 구현은 입력받은 데이터를 그대로 반환하는 단순 패스스루(pass-through) 처리.
+ * 현재 구현:
+ * - 저장할 수 없는 데이터(유기번호 없음)는 InvalidAnimalException으로 skip 처리되어 animal_sync_skip 테이블에 기록됨.
+ * - 이번 실행에서 이미 처리한 유기번호는 걸러냄 (페이지 경계에서 데이터가 밀려 같은 동물이 두 번 내려오는 경우).
+ * - 나머지는 그대로 반환.
  * 추후 데이터 변환, 필터링 로직 추가 가능.
  */
 @Component
+@RequiredArgsConstructor
 public class AnimalProcessor implements ItemProcessor<AnimalsEntity, AnimalsEntity> {
 
+    // 이번 Step 실행에서 처리한 유기번호 (StepScope 프록시)
+    private final DesertionNoTracker desertionNoTracker;
+
     @Override
     public AnimalsEntity process(AnimalsEntity item) {
+        // 유기번호는 PK이므로 비어 있으면 저장할 수 없음
+        if (item.getDesertionNo() == null || item.getDesertionNo().isBlank()) {
+            throw new InvalidAnimalException("유기번호(desertionNo)가 없는 데이터");
+        }
+
+        // 이미 처리한 유기번호면 null 반환 → Writer로 전달하지 않음 (filterCount 증가)
+        if (!desertionNoTracker.markIfFirst(item)) {
+            return null;
+        }
+
         // 변형 없이 그대로 반환
         return item;
     }
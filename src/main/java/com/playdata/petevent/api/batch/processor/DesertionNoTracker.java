@@ -0,0 +1,101 @@
+package com.playdata.petevent.api.batch.processor;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.util.LongHashSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 Step 실행에서 이미 처리한 유기번호를 기억하는 저장소.
+
+ * - StepScope이므로 Step 실행(파티션이면 워커 Step)마다 새로 만들어지고 종료 시 버려짐.
+ *   이전 실행의 유기번호가 다음 실행에 남지 않는다.
+ * - 유기번호는 고정 길이 숫자 문자열이므로 long으로 변환해 LongHashSet에 저장
+ *   (String + HashSet 노드 대비 원소당 메모리가 한 자릿수 이상 작음).
+ * - 숫자가 아니거나, 0으로 시작하거나(앞자리 0이 사라지면 다른 번호와 겹칠 수 있음), long 범위를 넘으면
+ *   문자열 그대로 별도의 HashSet에 저장.
+ * - Chunk가 롤백되어 다시 처리(retry/skip)될 때 같은 데이터가 중복으로 걸러지지 않도록,
+ *   아직 커밋되지 않은 Chunk에서 통과시킨 데이터를 기억해 두고 커밋(afterChunk) 시 비움.
+ * - Chunk 처리 스레드 하나에서만 사용되므로 동기화하지 않음.
+ */
+@Component
+@StepScope
+public class DesertionNoTracker implements ChunkListener {
+
+    // long으로 변환할 수 있는 최대 자릿수 (19자리부터는 overflow 가능)
+    private static final int MAX_NUMERIC_LENGTH = 18;
+
+    // 기본 크기(약 16KB)로 시작해 부하율에 따라 두 배씩 확장
+    // (파티션 워커마다 만들어지므로 전체 건수 기준으로 미리 크게 잡지 않음)
+    private final LongHashSet numericIds = new LongHashSet();
+
+    private final Set<String> otherIds = new HashSet<>();
+
+    // 아직 커밋되지 않은 Chunk에서 통과시킨 데이터 (객체 동일성 기준)
+    private final Set<AnimalsEntity> pendingItems = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Processor에서 호출: 이번 실행에서 처음 보는 유기번호의 데이터인지 확인하고 기록한다.
+     * 롤백된 Chunk를 다시 처리하는 경우 이전에 통과시킨 같은 데이터는 다시 통과시킨다.
+     *
+     * @return Writer로 전달해야 하면 true, 이미 처리한 유기번호면 false
+     */
+    public boolean markIfFirst(AnimalsEntity item) {
+        if (pendingItems.contains(item)) {
+            return true;
+        }
+        if (!add(item.getDesertionNo())) {
+            return false;
+        }
+        pendingItems.add(item);
+        return true;
+    }
+
+    /**
+     * Chunk가 커밋되면 다시 처리될 일이 없으므로 비움
+     */
+    @Override
+    public void afterChunk(ChunkContext context) {
+        pendingItems.clear();
+    }
+
+    /**
+     * 유기번호를 기록한다.
+     *
+     * @return 이번 실행에서 처음 보는 유기번호면 true, 이미 기록된 번호면 false
+     */
+    public boolean add(String desertionNo) {
+        long numeric = toLong(desertionNo);
+        return numeric >= 0 ? numericIds.add(numeric) : otherIds.add(desertionNo);
+    }
+
+    public int size() {
+        return numericIds.size() + otherIds.size();
+    }
+
+    /**
+     * 숫자로만 이루어진 유기번호를 long으로 변환한다.
+     * @return 변환할 수 없으면 -1
+     */
+    private static long toLong(String desertionNo) {
+        int length = desertionNo.length();
+        if (length == 0 || length > MAX_NUMERIC_LENGTH || (length > 1 && desertionNo.charAt(0) == '0')) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = desertionNo.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
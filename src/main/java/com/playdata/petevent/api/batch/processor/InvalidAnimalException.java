@@ -0,0 +1,12 @@
+package com.playdata.petevent.api.batch.processor;
+
+/**
+ * API 응답의 데이터 한 건이 저장할 수 없는 형태일 때 발생하는 예외.
+ * apiToDbStep에서 skip 대상으로 등록되어 있어 Step을 중단시키지 않고 animal_sync_skip에 기록된다.
+ */
+public class InvalidAnimalException extends RuntimeException {
+
+    public InvalidAnimalException(String message) {
+        super(message);
+    }
+}
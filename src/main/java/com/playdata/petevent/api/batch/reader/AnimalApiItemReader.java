@@ -1,18 +1,29 @@
 package com.playdata.petevent.api.batch.reader;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.playdata.petevent.api.util.SafeEnumParser;
+import com.playdata.petevent.api.client.AnimalApiClient;
+import com.playdata.petevent.api.client.AnimalApiException;
+import com.playdata.petevent.api.client.AnimalQuery;
+import com.playdata.petevent.api.config.AnimalApiProperties;
 import com.playdata.petevent.api.entity.AnimalsEntity;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,125 +31,452 @@ import org.springframework.stereotype.Component;
  * 외부 공공 API(유기동물 보호센터 데이터)를 호출해 데이터를 읽어옴.
 
  * 특징:
- * - API가 페이징 방식이므로 모든 페이지를 순회하며 데이터를 수집.
- * - 수집한 데이터는 메모리에 저장해 Iterator로 순차 제공.
- * - StepScope를 사용해 Job 파라미터 주입 또는 스텝 실행 시 인스턴스 재생성 가능.
+ * - API가 페이징 방식이므로 보호 상태별로 모든 페이지를 순회.
+ * - animal.api.reader-mode 설정에 따라 읽기 방식이 달라짐.
+ *   - STREAMING: 현재 페이지를 모두 소비한 시점에 다음 페이지를 호출.
+ *     메모리에는 한 페이지(numOfRows) + 한 Chunk 분량만 유지되고, 첫 페이지 응답 직후 바로 쓰기가 시작됨.
+ *   - EAGER: 첫 read() 시점에 모든 페이지를 메모리에 적재한 뒤 순차 제공 (기존 방식).
+ *   - PARALLEL: 각 상태의 1페이지로 전체 페이지 수를 확인한 뒤, 나머지 페이지를 animalApiExecutor에서 동시에 호출.
+ *     동시에 요청 중인 페이지는 최대 animal.api.parallelism개로 제한되며, 결과는 항상 페이지 순서대로 제공됨.
+ *   - PIPELINED: animalApiExecutor의 스레드 하나가 STREAMING과 같은 순서로 페이지를 호출해 큐에 넣고,
+ *     Step은 큐에서 페이지를 꺼내 처리. Writer가 DB에 쓰는 동안 다음 페이지 호출이 진행되므로
+ *     전체 시간이 (호출 시간 + 쓰기 시간)이 아닌 둘 중 큰 쪽에 가까워짐.
+ *     큐 크기(animal.api.pipeline-depth)를 넘으면 호출 스레드가 대기하므로 메모리 사용량이 제한됨.
+ * - JobParameters에 bgnde/endde가 있으면(DELTA 동기화) 해당 기간의 데이터만 조회.
+ * - 파티션 Step(apiToDbWorkerStep)에서는 StepExecutionContext의 state/uprCd에 해당하는 데이터만 조회.
+ * - 새 페이지를 시작할 때마다 힙 사용량을 읽기 방식 태그로 기록 (AnimalSyncMetrics).
+ * - 반환하는 데이터의 날짜/숫자 변환 실패 건수(AnimalsEntity.parseFailures)를 합산해 ExecutionContext에 저장 (진행 상황 조회용).
+ * - ItemStream 구현: Chunk 커밋마다 읽기 위치(보호 상태, 페이지 번호, 페이지 내 위치)를 Step ExecutionContext에 저장.
+ *   실패한 Job을 재시작하면 마지막으로 커밋된 위치의 페이지부터 다시 호출하고, 이미 처리한 데이터는 건너뜀.
+ *   (재시작 전후의 numOfRows가 같아야 같은 위치로 복원됨)
+ * - StepScope를 사용해 스텝 실행마다 인스턴스(읽기 위치)를 새로 생성.
+ * - 생성자에서는 API를 호출하지 않으므로 빈 생성 시점에 스텝이 블로킹되지 않음.
  */
 @Component
 @StepScope
-public class AnimalApiItemReader implements ItemReader<AnimalsEntity> {
+@RequiredArgsConstructor
+public class AnimalApiItemReader implements ItemStreamReader<AnimalsEntity> {
 
-    // API로부터 읽어온 동물 데이터 리스트를 순회하는 Iterator
-    private final Iterator<AnimalsEntity> dataIterator;
+    // API에서 보호 상태 필터 (protect: 보호중, notice: 공고중)
+    public static final List<String> STATES = List.of("protect", "notice");
 
-    public AnimalApiItemReader() {
-        List<AnimalsEntity> results = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
+    // ExecutionContext에 저장하는 읽기 위치 키
+    private static final String STATE_KEY = "animalApiItemReader.state";
+    private static final String PAGE_NO_KEY = "animalApiItemReader.pageNo";
+    private static final String OFFSET_KEY = "animalApiItemReader.offset";
+    private static final String TOTAL_COUNT_KEY = "animalApiItemReader.totalCount";
+    private static final String PAGES_FETCHED_KEY = "animalApiItemReader.pagesFetched";
+    private static final String PARSE_FAILURES_KEY = "animalApiItemReader.parseFailures";
 
-        // API에서 보호 상태 필터 (protect: 보호중, notice: 공고중)
-        List<String> states = List.of("protect", "notice");
+    // PIPELINED 모드: 모든 페이지를 넣었음을 알리는 표시
+    private static final AnimalPage END_OF_PAGES = new AnimalPage(null, 0, 0, List.of());
 
-        try {
-            for (String state : states) {
-                int pageNo = 1;
-                int numOfRows = 500;
-                int totalCount;
-                String serviceKey = "JSn0E7LvFMcdl%2Bt%2FuNmxvKAfkGfvNVUlemWjY4O5%2BRNFksB7TRlw%2BXuaMe6Zz7Yt5QCYPl3G6Tc2t8jx6FUePg%3D%3D";
-
-                do {
-                    // API 호출용 URL 조립
-                    String url = String.format(
-                            "https://apis.data.go.kr/1543061/abandonmentPublicService_v2/abandonmentPublic_v2?serviceKey=%s&_type=json&numOfRows=%d&pageNo=%d&state=%s",
-                            serviceKey, numOfRows, pageNo, state);
-
-                    // Http 요청을 생성: 지정된 URL로 GET 방식 호출을 준비
-                    HttpRequest request = HttpRequest.newBuilder()
-                            .uri(URI.create(url)) // API 주소 (현재 페이지에 해당)
-                            .GET()                // GET 요청 방식 사용
-                            .build();
-
-                    // HttpClient를 사용해 API 호출 실행 및 응답 수신 (String 형태로 받음)
-                    HttpResponse<String> response = HttpClient.newHttpClient()
-                            .send(request, HttpResponse.BodyHandlers.ofString()); // 문자열로 응답 받음
-
-                    // 받은 응답 문자열을 JSON 객체로 파싱
-                    // 구조: response -> body -> items -> item (배열 또는 단일 객체)
-                    JsonNode body = mapper.readTree(response.body())  // JSON 전체 트리로 변환
-                            .path("response")                         // 첫 번째 루트
-                            .path("body");                            // 실제 데이터가 들어있는 body
-
-                    // 응답에서 동물 데이터 항목들(item)을 가져옴
-                    JsonNode items = body.path("items").path("item");
-
-                    // 총 데이터 개수를 가져옴 → 페이징 종료 조건 계산에 사용됨
-                    totalCount = body.path("totalCount").asInt(); // 전체 데이터 개수
-
-                    // item이 배열인 경우 (복수 개체): 하나씩 엔티티로 변환해서 리스트에 저장
-                    if (items.isArray()) {
-                        for (JsonNode item : items) {
-                            results.add(parseToEntity(item)); // JSON → AnimalsEntity 변환 후 저장
-                        }
-                    // item이 단일 객체인 경우: 바로 변환해서 리스트에 저장
-                    } else if (items.isObject()) {
-                        results.add(parseToEntity(items)); // JSON → AnimalsEntity
-                    }
-
-                    // 다음 페이지로 이동하기 위해 pageNo 증가
-                    // ex) pageNo=1 → 2 → 3 ...
-                    pageNo++;
-
-                    // 현재까지 가져온 데이터 수 = (pageNo - 1) * numOfRows
-                    // 이 수치가 totalCount 보다 작으면 다음 페이지가 존재하므로 계속 반복
-                    // 예: 총 1200건, 한 페이지 500건이면 3페이지까지 반복됨
-                } while ((pageNo - 1) * numOfRows < totalCount);
+    // API 호출 관련 설정 (페이지 크기, 읽기 방식)
+    private final AnimalApiProperties properties;
+
+    // 공공 API 호출 클라이언트 (애플리케이션 전체에서 공유)
+    private final AnimalApiClient animalApiClient;
+
+    // PARALLEL 모드에서 페이지를 동시에 호출하는 스레드 풀
+    private final ThreadPoolTaskExecutor animalApiExecutor;
+
+    // Reader 힙 사용량 지표
+    private final AnimalSyncMetrics metrics;
+
+    // DELTA 동기화 검색 기간 (FULL 동기화에서는 null)
+    @Value("#{jobParameters['bgnde']}")
+    private LocalDate bgnde;
+
+    @Value("#{jobParameters['endde']}")
+    private LocalDate endde;
+
+    // 파티션 실행 시 이 Reader가 담당하는 보호 상태와 시도 코드 (AnimalSyncPartitioner 참고, 단일 Step이면 null)
+    @Value("#{stepExecutionContext['state']}")
+    private String partitionState;
+
+    @Value("#{stepExecutionContext['uprCd']}")
+    private String uprCd;
+
+    // STREAMING 모드: 현재 조회 중인 상태(states())의 인덱스
+    private int stateIndex = 0;
+
+    // STREAMING 모드: 현재 상태에서 마지막으로 호출한 페이지 번호 (0이면 아직 호출 전)
+    private int pageNo = 0;
+
+    // STREAMING 모드: 현재 상태의 전체 데이터 개수 (첫 페이지 응답으로 확정됨)
+    private int totalCount = 0;
+
+    // 현재 페이지를 순회하는 Iterator
+    private Iterator<AnimalsEntity> dataIterator = Collections.emptyIterator();
+
+    // EAGER 모드: 미리 적재한 페이지 목록 (null이면 아직 적재 전)
+    private Deque<AnimalPage> loadedPages;
+
+    // PARALLEL 모드: 아직 소비하지 않은 페이지 목록 (페이지 순서대로 정렬, null이면 아직 계획 전)
+    private Deque<PageTask> pageTasks;
+
+    // PIPELINED 모드: 호출 스레드가 채우는 페이지 큐 (null이면 아직 시작 전)
+    private BlockingQueue<AnimalPage> pipeline;
+
+    // PIPELINED 모드: 페이지 호출 작업과 그 작업에서 발생한 예외
+    private Future<?> producer;
+    private volatile RuntimeException producerError;
 
+    // 현재 소비 중인 페이지와 그 페이지에서 이미 반환한 데이터 수 (ExecutionContext 저장용)
+    private AnimalPage currentPage;
+    private int offset = 0;
+
+    // 이번 Step에서 처리를 시작한 페이지 수 (진행 상황 조회용, 재시작 시 이어서 셈)
+    private long pagesFetched = 0;
+
+    // 이번 Step에서 반환한 데이터 중 날짜/숫자로 변환하지 못한 값의 수 (재시작 시 이어서 셈)
+    private long parseFailures = 0;
+
+    // 재시작 시 복원할 읽기 위치 (null이면 처음부터)
+    private String resumeState;
+    private int resumePageNo;
+    private int resumeOffset;
+
+    /**
+     * Step 시작 시 호출됨.
+     * 이전 실행에서 저장한 읽기 위치가 있으면(재시작) 복원 대상으로 기억해 둔다.
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(STATE_KEY)) {
+            resumeState = executionContext.getString(STATE_KEY);
+            resumePageNo = executionContext.getInt(PAGE_NO_KEY);
+            resumeOffset = executionContext.getInt(OFFSET_KEY);
+            // 복원 위치의 페이지는 다시 호출되면서 한 번 더 세어지므로 제외
+            pagesFetched = Math.max(0, executionContext.getLong(PAGES_FETCHED_KEY, 0L) - 1);
+            // 복원 위치 이전 데이터는 다시 반환하지 않으므로 그대로 이어서 셈
+            parseFailures = executionContext.getLong(PARSE_FAILURES_KEY, 0L);
+
+            // STREAMING 모드는 저장된 페이지부터 바로 이어서 호출
+            int index = states().indexOf(resumeState);
+            if (index >= 0) {
+                stateIndex = index;
+                pageNo = resumePageNo - 1;
+                totalCount = executionContext.getInt(TOTAL_COUNT_KEY, 0);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("API 호출 실패", e);
         }
+    }
+
+    /**
+     * Chunk 커밋 직전에 호출됨.
+     * 현재 페이지와 그 안에서 반환한 데이터 수를 저장한다.
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(PAGES_FETCHED_KEY, pagesFetched);
+        executionContext.putLong(PARSE_FAILURES_KEY, parseFailures);
+        if (currentPage == null) {
+            return;
+        }
+        executionContext.putString(STATE_KEY, currentPage.state());
+        executionContext.putInt(PAGE_NO_KEY, currentPage.pageNo());
+        executionContext.putInt(OFFSET_KEY, offset);
+        executionContext.putInt(TOTAL_COUNT_KEY, currentPage.totalCount());
+    }
 
-        // 수집한 데이터를 Iterator로 설정하여 read() 호출 시 순차 제공
-        this.dataIterator = results.iterator();
+    @Override
+    public void close() {
+        cancelPending();
+        if (producer != null) {
+            producer.cancel(true);
+        }
     }
 
     /**
      * 배치 Step이 한 건씩 데이터 요청 시 호출됨.
-     * Iterator에서 다음 요소를 반환하고 없으면 null 반환하여 Step 종료 신호.
+     * 현재 페이지의 데이터를 모두 소비했으면 다음 페이지를 호출하고,
+     * 더 이상 읽을 페이지가 없으면 null 반환하여 Step 종료 신호.
      */
     @Override
     public AnimalsEntity read() {
-        return dataIterator.hasNext() ? dataIterator.next() : null;
+        // 빈 페이지가 올 수도 있으므로 데이터가 있는 페이지를 만날 때까지 반복
+        while (!dataIterator.hasNext()) {
+            AnimalPage page = switch (properties.getReaderMode()) {
+                case EAGER -> nextLoadedPage();
+                case PARALLEL -> fetchNextPageParallel();
+                case PIPELINED -> takePipelinedPage();
+                case STREAMING -> fetchNextPage();
+            };
+            if (page == null) {
+                return null;
+            }
+            startPage(page);
+        }
+        offset++;
+        AnimalsEntity item = dataIterator.next();
+        parseFailures += item.getParseFailures();
+        return item;
+    }
+
+    /**
+     * 새 페이지의 소비를 시작한다.
+     * 재시작 위치의 페이지라면 이전 실행에서 이미 처리한 데이터만큼 건너뛴다.
+     */
+    private void startPage(AnimalPage page) {
+        pagesFetched++;
+        metrics.sampleReaderHeap(properties.getReaderMode().name().toLowerCase());
+        currentPage = page;
+        offset = 0;
+        dataIterator = page.items().iterator();
+
+        if (resumeState != null) {
+            if (resumeState.equals(page.state()) && resumePageNo == page.pageNo()) {
+                while (offset < resumeOffset && dataIterator.hasNext()) {
+                    dataIterator.next();
+                    offset++;
+                }
+            }
+            resumeState = null;
+        }
+    }
+
+    /**
+     * 재시작 위치보다 앞선 페이지인지 여부 (상태 순서 → 페이지 순서로 비교)
+     */
+    private boolean isBeforeResumePoint(String state, int pageNo) {
+        if (resumeState == null) {
+            return false;
+        }
+        int resumeIndex = states().indexOf(resumeState);
+        int index = states().indexOf(state);
+        return index < resumeIndex || (index == resumeIndex && pageNo < resumePageNo);
+    }
+
+    /**
+     * 다음 페이지를 호출한다.
+     * 현재 상태의 페이지를 모두 읽었으면 다음 상태의 1페이지로 넘어간다.
+     *
+     * @return 새 페이지, 모든 상태의 페이지를 다 읽었으면 null
+     */
+    private AnimalPage fetchNextPage() {
+        int numOfRows = properties.getNumOfRows();
+
+        List<String> states = states();
+        while (stateIndex < states.size()) {
+            // 첫 페이지이거나, 지금까지 가져온 데이터 수가 totalCount보다 작으면 다음 페이지가 존재
+            // 예: 총 1200건, 한 페이지 500건이면 3페이지까지 호출됨
+            if (pageNo == 0 || (long) pageNo * numOfRows < totalCount) {
+                pageNo++;
+                AnimalPage page = animalApiClient.fetchPage(query(states.get(stateIndex)), pageNo, numOfRows);
+                totalCount = page.totalCount();
+                return page;
+            }
+
+            // 현재 상태의 모든 페이지를 읽었으면 다음 상태로 이동
+            stateIndex++;
+            pageNo = 0;
+            totalCount = 0;
+        }
+        return null;
+    }
+
+    /**
+     * EAGER 모드: 첫 호출 시 모든 상태의 모든 페이지를 한 번에 메모리에 적재하고,
+     * 이후에는 적재한 페이지를 순서대로 꺼낸다.
+     */
+    private AnimalPage nextLoadedPage() {
+        if (loadedPages == null) {
+            // 재시작 위치와 관계없이 처음부터 모두 호출 (STREAMING 모드용 위치 복원 무시)
+            stateIndex = 0;
+            pageNo = 0;
+            totalCount = 0;
+
+            loadedPages = new ArrayDeque<>();
+            AnimalPage page;
+            while ((page = fetchNextPage()) != null) {
+                if (!isBeforeResumePoint(page.state(), page.pageNo())) {
+                    loadedPages.add(page);
+                }
+            }
+        }
+        return loadedPages.pollFirst();
     }
 
     /**
-     * JsonNode를 AnimalsEntity 객체로 변환.
-     * API 응답 필드와 엔티티 필드 매핑 처리 및 enum 안전 변환 적용.
+     * PIPELINED 모드: 첫 호출 시 페이지 호출 스레드를 시작하고, 이후에는 큐에서 다음 페이지를 꺼낸다.
+     * 호출 스레드에서 예외가 발생했으면 Step 스레드에서 그대로 다시 던진다.
+     *
+     * @return 새 페이지, 모든 페이지를 다 읽었으면 null
      */
-    private AnimalsEntity parseToEntity(JsonNode item) {
-        return AnimalsEntity.builder()
-                .desertionNo(item.path("desertionNo").asText())
-                .rfidCd(item.path("rfidCd").asText(null))
-                .happenDt(item.path("happenDt").asText(null))
-                .happenPlace(item.path("happenPlace").asText(null))
-                .upKindNm(item.path("upKindNm").asText(null))
-                .kindNm(item.path("kindNm").asText(null))
-                .colorCd(item.path("colorCd").asText(null))
-                .age(item.path("age").asText(null))
-                .weight(item.path("weight").asText(null))
-                .noticeSdt(item.path("noticeSdt").asText(null))
-                .noticeEdt(item.path("noticeEdt").asText(null))
-                .popfile1(item.path("popfile1").asText(null))
-                .popfile2(item.path("popfile2").asText(null))
-                .processState(item.path("processState").asText(null))
-                .sexCd(SafeEnumParser.parseSexCode(item.path("sexCd").asText("Q")))
-                .neuterYn(SafeEnumParser.parseNeuterYn(item.path("neuterYn").asText("U")))
-                .specialMark(item.path("specialMark").asText(null))
-                .careNm(item.path("careNm").asText(null))
-                .careTel(item.path("careTel").asText(null))
-                .careAddr(item.path("careAddr").asText(null))
-                .careOwnerNm(item.path("careOwnerNm").asText(null))
-                .orgNm(item.path("orgNm").asText(null))
-                .etcBigo(item.path("etcBigo").asText(null))
-                .build();
-    }
-}
\ No newline at end of file
+    private AnimalPage takePipelinedPage() {
+        if (pipeline == null) {
+            pipeline = new ArrayBlockingQueue<>(Math.max(1, properties.getPipelineDepth()));
+            producer = animalApiExecutor.submit(this::producePages);
+        }
+
+        AnimalPage page;
+        try {
+            page = pipeline.take();
+        } catch (InterruptedException e) {
+            producer.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AnimalApiException("API 호출 중단", e);
+        }
+
+        if (page == END_OF_PAGES) {
+            // 다음 read() 호출에서도 계속 종료를 알리도록 다시 넣어 둠
+            pipeline.offer(END_OF_PAGES);
+            if (producerError != null) {
+                throw producerError;
+            }
+            return null;
+        }
+        return page;
+    }
+
+    /**
+     * PIPELINED 모드의 페이지 호출 스레드.
+     * STREAMING 모드와 같은 순서로 페이지를 호출해 큐에 넣고, 큐가 가득 차면 Step이 꺼낼 때까지 대기한다.
+     * (stateIndex, pageNo, totalCount는 이 스레드에서만 사용)
+     */
+    private void producePages() {
+        try {
+            try {
+                AnimalPage page;
+                while ((page = fetchNextPage()) != null) {
+                    pipeline.put(page);
+                }
+            } catch (RuntimeException e) {
+                producerError = e;
+            }
+            pipeline.put(END_OF_PAGES);
+        } catch (InterruptedException e) {
+            // Step 종료(close)로 취소됨
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * PARALLEL 모드: 페이지 순서대로 다음 페이지 결과를 꺼낸다.
+     * 꺼낸 뒤에는 바로 뒤 페이지들을 미리 요청해 두어 항상 parallelism개의 요청이 진행되도록 한다.
+     *
+     * @return 새 페이지, 모든 페이지를 다 읽었으면 null
+     */
+    private AnimalPage fetchNextPageParallel() {
+        if (pageTasks == null) {
+            planParallelPages();
+        }
+
+        PageTask next = pageTasks.pollFirst();
+        if (next == null) {
+            return null;
+        }
+
+        // 소비할 페이지를 꺼냈으므로 빈 자리만큼 다음 페이지를 미리 요청
+        fillWindow();
+
+        return await(next.future);
+    }
+
+    /**
+     * PARALLEL 모드: 호출할 전체 페이지 목록을 만든다.
+     * 1. 모든 상태의 1페이지를 동시에 호출해 totalCount를 확인
+     * 2. 상태 순서 → 페이지 순서로 나머지 페이지를 목록에 추가 (재시작이면 복원 위치 이전 페이지는 제외)
+     */
+    private void planParallelPages() {
+        int numOfRows = properties.getNumOfRows();
+
+        List<Future<AnimalPage>> firstPages = new ArrayList<>();
+        for (String state : states()) {
+            firstPages.add(animalApiExecutor.submit(() -> animalApiClient.fetchPage(query(state), 1, numOfRows)));
+        }
+
+        pageTasks = new ArrayDeque<>();
+        for (Future<AnimalPage> firstPage : firstPages) {
+            AnimalPage page = await(firstPage);
+            if (!isBeforeResumePoint(page.state(), 1)) {
+                pageTasks.add(new PageTask(page.state(), 1, CompletableFuture.completedFuture(page)));
+            }
+
+            // 예: 총 1200건, 한 페이지 500건이면 2~3페이지를 추가
+            int lastPageNo = (int) ((page.totalCount() + (long) numOfRows - 1) / numOfRows);
+            for (int no = 2; no <= lastPageNo; no++) {
+                if (!isBeforeResumePoint(page.state(), no)) {
+                    pageTasks.add(new PageTask(page.state(), no, null));
+                }
+            }
+        }
+
+        fillWindow();
+    }
+
+    /**
+     * 목록 앞쪽에서부터 최대 parallelism개의 페이지가 요청된 상태가 되도록 호출을 제출한다.
+     * 이미 받아 둔 페이지도 한 자리를 차지하므로 메모리에 쌓이는 페이지 수도 함께 제한된다.
+     */
+    private void fillWindow() {
+        int numOfRows = properties.getNumOfRows();
+        int window = 0;
+        for (PageTask task : pageTasks) {
+            if (window++ >= properties.getParallelism()) {
+                break;
+            }
+            if (task.future == null) {
+                task.future = animalApiExecutor.submit(() -> animalApiClient.fetchPage(query(task.state), task.pageNo, numOfRows));
+            }
+        }
+    }
+
+    /**
+     * 페이지 호출 결과를 기다린다.
+     * 실패하면 아직 진행 중인 나머지 요청을 모두 취소하고 예외를 그대로 전달한다.
+     */
+    private AnimalPage await(Future<AnimalPage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            cancelPending();
+            Thread.currentThread().interrupt();
+            throw new AnimalApiException("API 호출 중단", e);
+        } catch (ExecutionException e) {
+            cancelPending();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AnimalApiException("API 호출 실패", e.getCause());
+        }
+    }
+
+    // 진행 중인 페이지 요청 취소
+    private void cancelPending() {
+        if (pageTasks == null) {
+            return;
+        }
+        for (PageTask task : pageTasks) {
+            if (task.future != null) {
+                task.future.cancel(true);
+            }
+        }
+    }
+
+    // 조회할 보호 상태 목록 (파티션이면 담당 상태 하나)
+    private List<String> states() {
+        return partitionState == null ? STATES : List.of(partitionState);
+    }
+
+    // 보호 상태 + (파티션이라면) 시도 코드 + (DELTA 동기화라면) 검색 기간
+    private AnimalQuery query(String state) {
+        return new AnimalQuery(state, uprCd, bgnde, endde);
+    }
+
+    /**
+     * PARALLEL 모드에서 호출할 페이지 하나.
+     * future가 null이면 아직 요청을 보내지 않은 페이지.
+     */
+    private static final class PageTask {
+        private final String state;
+        private final int pageNo;
+        private Future<AnimalPage> future;
+
+        private PageTask(String state, int pageNo, Future<AnimalPage> future) {
+            this.state = state;
+            this.pageNo = pageNo;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.playdata.petevent.api.batch.reader;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.util.List;
+
+/**
+ * API 한 페이지 호출 결과.
+ *
+ * @param state      조회한 보호 상태 (protect, notice)
+ * @param pageNo     페이지 번호 (1부터 시작)
+ * @param totalCount 해당 상태의 전체 데이터 개수
+ * @param items      이 페이지에 포함된 동물 데이터
+ */
+public record AnimalPage(String state, int pageNo, int totalCount, List<AnimalsEntity> items) {
+}
@@ -1,14 +1,22 @@
 package com.playdata.petevent.api.batch.writer;
 
+import com.playdata.petevent.api.entity.AnimalChangeEntity.ChangeType;
 import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.facet.AnimalFacets;
+import com.playdata.petevent.api.facet.FacetDelta;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.repository.AnimalChangeRepository.Change;
+import com.playdata.petevent.api.repository.AnimalFacetRepository;
 import com.playdata.petevent.api.repository.AnimalsRepository;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.batch.item.Chunk;
@@ -20,9 +28,15 @@ import org.springframework.transaction.annotation.Transactional;
  * Spring Batch에서 데이터를 DB에 기록하는 역할을 하는 ItemWriter 구현체.
 
  * - AnimalApiItemReader로부터 넘어온 AnimalsEntity들을 DB에 저장 또는 업데이트.
- * - 이미 존재하는 유기번호(desertionNo)의 경우, 변경된 값만 업데이트.
- * - 처음 보는 유기번호는 신규 데이터로 저장.
- * - 유기번호를 Set에 저장해서 이후 삭제용 필터링에도 활용 가능.
+ * - Chunk의 유기번호로 기존 데이터의 내용 지문(contentHash)만 IN 쿼리 한 번에 조회한 뒤, 메모리에서 분류.
+ *   - 지문이 같으면 내용이 같으므로 엔티티를 조회하지 않고 건너뜀.
+ *   - 지문이 다르면(또는 아직 지문이 없으면) 해당 엔티티만 조회해서 변경된 값만 업데이트.
+ * - 처음 보는 유기번호는 신규 데이터로 저장 (Persistable 구현으로 SELECT 없이 바로 INSERT).
+ * - 모든 데이터에 이번 동기화 실행 번호(last_sync_run)를 기록해서, Step 종료 후 API에 없던 데이터를 DB에서 바로 골라낼 수 있게 함.
+ * - 신규/변경 데이터의 집계 건수 변경분을 같은 Chunk 트랜잭션에서 animal_facet_count에 반영.
+ * - 신규/변경 데이터를 같은 Chunk 트랜잭션에서 변경 기록(animal_change_outbox)에 추가 (변경 데이터는 바뀐 필드 목록 포함).
+ * - 파티션 Step에서 동시에 실행되므로, 지문 조회 전에 Chunk의 유기번호를 점유(DesertionNoLocks)해서
+ *   같은 유기번호를 두 파티션이 모두 INSERT 하다가 중복 키 오류가 나지 않도록 함.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,10 +45,17 @@ public class AnimalCustomItemWriter implements ItemWriter<AnimalsEntity> {
     // Spring Data JPA를 통한 DB 접근용 Repository
     private final AnimalsRepository animalsRepository;
 
-    // 이번 배치에서 API로 수집한 모든 유기번호를 모아놓는 Set
-    // 이후 "DB에는 있는데, API에는 없는 데이터"를 삭제할 때 사용할 수 있음
-    @Getter
-    private final Set<String> desertionNoFromApi = new HashSet<>();
+    // 집계 건수(animal_facet_count) 반영용
+    private final AnimalFacetRepository facetRepository;
+
+    // 변경 기록(animal_change_outbox) 추가용
+    private final AnimalChangeRepository changeRepository;
+
+    // 신규/변경/변경 없음 건수 지표
+    private final AnimalSyncMetrics metrics;
+
+    // 파티션 간 유기번호 단위 쓰기 잠금
+    private final DesertionNoLocks desertionNoLocks;
 
     /**
      * Chunk 단위로 데이터가 넘어오며, 각 동물 정보를 DB에 저장하거나 업데이트한다.
@@ -43,43 +64,81 @@ public class AnimalCustomItemWriter implements ItemWriter<AnimalsEntity> {
     @Override
     @Transactional  // 하나의 Chunk 안에서 모든 쓰기 작업이 트랜잭션으로 처리됨
     public void write(Chunk<? extends AnimalsEntity> items) {
+
+        // 같은 Chunk 안에 유기번호가 중복되면 마지막 값만 사용 (페이지 경계에서 데이터가 밀리는 경우 대비)
+        Map<String, AnimalsEntity> incomingById = new LinkedHashMap<>();
         for (AnimalsEntity incoming : items) {
+            incomingById.put(incoming.getDesertionNo(), incoming);
+        }
 
-            // 유기번호를 Set에 저장 (삭제 대상 판별용)
-            desertionNoFromApi.add(incoming.getDesertionNo());
+        // 이번 동기화 실행 번호 (삭제 대상 판별용)
+        long syncRunId = SyncRun.currentId();
 
-            // DB에서 같은 유기번호가 이미 존재하는지 확인
-            Optional<AnimalsEntity> optional = animalsRepository.findByDesertionNo(incoming.getDesertionNo());
+        // 다른 파티션이 같은 유기번호를 쓰는 중이면 커밋될 때까지 기다린 뒤 조회 (신규/변경 분류가 겹치지 않도록)
+        // Chunk 트랜잭션의 첫 조회보다 먼저 점유해야 기다린 뒤의 조회가 다른 파티션의 커밋 결과를 본다
+        desertionNoLocks.claimUntilCompletion(incomingById.keySet());
 
-            // 이미 존재하는 경우 → 데이터가 바뀌었는지 확인 후 업데이트
-            if (optional.isPresent()) {
-                AnimalsEntity existing = optional.get();
+        // Chunk 전체의 기존 지문을 한 번에 조회 (WHERE desertion_no IN (...))
+        Map<String, Long> storedHashes = animalsRepository.findContentHashMap(incomingById.keySet());
 
-                // 비교해서 기존 데이터와 다른 경우만 업데이트
-                if (isChanged(existing, incoming)) {
-                    existing.updateIfChanged(incoming);  // 변경된 필드만 업데이트
-                    animalsRepository.save(existing);    // DB 저장
-                }
+        FacetDelta facetDelta = new FacetDelta();
+        List<Change> changes = new ArrayList<>();
+        List<AnimalsEntity> inserts = new ArrayList<>();
+        Map<String, AnimalsEntity> changedById = new HashMap<>();
+        List<String> unchanged = new ArrayList<>();
+        for (AnimalsEntity incoming : incomingById.values()) {
+            String desertionNo = incoming.getDesertionNo();
 
-            } else {
+            if (!storedHashes.containsKey(desertionNo)) {
                 // DB에 존재하지 않는 유기번호 → 신규 데이터로 저장
-                animalsRepository.save(incoming);
+                incoming.markSynced(syncRunId);
+                inserts.add(incoming);
+                facetDelta.add(AnimalFacets.of(incoming));
+                changes.add(new Change(desertionNo, ChangeType.INSERTED, null));
+
+            } else if (!Objects.equals(storedHashes.get(desertionNo), incoming.getContentHash())) {
+                // 이미 존재하고 내용이 바뀐 경우 → 업데이트 대상
+                changedById.put(desertionNo, incoming);
+
+            } else {
+                // 지문이 같으면 변경 사항이 없으므로 실행 번호만 기록
+                unchanged.add(desertionNo);
             }
         }
-    }
 
-    /**
-     * 기존 DB의 동물 정보와 새로 들어온 정보 간에 변경 여부를 판단하는 메서드.
-     * (비교 대상은 중요 필드만 선택적으로 지정)
-     *
-     * @param db 기존 DB에 저장된 AnimalsEntity
-     * @param incoming 새로 들어온 AnimalsEntity
-     * @return 변경된 필드가 하나라도 있으면 true
-     */
-    private boolean isChanged(AnimalsEntity db, AnimalsEntity incoming) {
-        return !Objects.equals(db.getProcessState(), incoming.getProcessState()) ||
-                !Objects.equals(db.getWeight(), incoming.getWeight()) ||
-                !Objects.equals(db.getCareTel(), incoming.getCareTel());
-        // 필요 시 비교 항목을 추가해 확장 가능
+        // 내용이 같은 데이터는 엔티티 조회 없이 UPDATE 한 번으로 실행 번호만 기록
+        // (벌크 UPDATE가 영속성 컨텍스트와 섞이지 않도록 엔티티를 조회하기 전에 실행)
+        if (!unchanged.isEmpty()) {
+            animalsRepository.markSynced(unchanged, syncRunId);
+        }
+
+        // 바뀐 데이터만 엔티티로 조회해서 변경된 필드만 업데이트
+        // 영속 상태의 엔티티이므로 Chunk 트랜잭션 커밋 시 변경 감지로 UPDATE 실행
+        if (!changedById.isEmpty()) {
+            for (AnimalsEntity existing : animalsRepository.findAllById(changedById.keySet())) {
+                AnimalFacets before = AnimalFacets.of(existing);
+                List<String> changedFields = existing.updateIfChanged(changedById.get(existing.getDesertionNo()));
+                existing.markSynced(syncRunId);
+                facetDelta.change(before, AnimalFacets.of(existing));
+                // 타입 컬럼만 채워진 경우(기존 데이터 보정)는 구독자에게 알릴 변경이 아님
+                if (!changedFields.isEmpty()) {
+                    changes.add(new Change(existing.getDesertionNo(), ChangeType.UPDATED, changedFields));
+                }
+            }
+        }
+
+        // 신규 데이터 저장 (isNew() == true 이므로 merge 없이 persist → 배치 INSERT)
+        animalsRepository.saveAll(inserts);
+
+        // 커밋 시점이 아닌 write() 안에서 SQL을 실행해야 제약 조건 위반/일시적 오류가 skip/retry 대상이 됨
+        animalsRepository.flush();
+
+        // 집계 건수 변경분 반영 (Chunk가 롤백되면 함께 롤백)
+        facetRepository.apply(facetDelta);
+
+        // 변경 기록 추가 (커밋 후 구독자에게 알림)
+        changeRepository.append(changes, syncRunId);
+
+        metrics.recordWrite(inserts.size(), changedById.size(), unchanged.size());
     }
-}
\ No newline at end of file
+}
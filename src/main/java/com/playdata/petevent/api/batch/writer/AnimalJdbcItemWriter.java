@@ -0,0 +1,238 @@
+package com.playdata.petevent.api.batch.writer;
+
+import com.playdata.petevent.api.entity.AnimalChangeEntity.ChangeType;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.facet.AnimalFacets;
+import com.playdata.petevent.api.facet.FacetDelta;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.repository.AnimalChangeRepository.Change;
+import com.playdata.petevent.api.repository.AnimalFacetRepository;
+import com.playdata.petevent.api.repository.AnimalsRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JdbcTemplate 배치로 abandoned_animals에 upsert하는 ItemWriter 구현체.
+ * (animal.sync.writer=jdbc 일 때 apiToDbStep에서 사용)
+
+ * - Chunk의 기존 내용 지문(contentHash)을 한 번에 조회해 내용이 같은 데이터는 제외.
+ * - 신규/변경 데이터만 INSERT ... ON DUPLICATE KEY UPDATE 한 번의 배치로 전송 (행마다 SELECT/UPDATE 없음).
+ * - 신규 데이터: create_at, update_at을 현재 시각으로 저장.
+ * - 기존 데이터: create_at은 유지하고, AnimalsEntity.updateIfChanged와 같이 모든 데이터 컬럼을 API 값으로 교체
+ *   (API에서 없어진 값은 null로 반영해 저장된 content_hash가 행 내용과 항상 일치).
+ *   실제로 값이 바뀐 컬럼이 있을 때만 update_at을 갱신.
+ * - 모든 데이터에 이번 동기화 실행 번호(last_sync_run)를 기록 (내용이 같은 데이터는 UPDATE 한 번으로 일괄 기록).
+ * - 신규/변경 데이터의 집계 건수 변경분을 animal_facet_count에 반영 (변경 데이터는 기존 집계 값만 추가로 조회).
+ * - 신규/변경 데이터를 변경 기록(animal_change_outbox)에 추가.
+ *   기존 값을 조회하지 않으므로 변경 데이터의 바뀐 필드 목록은 기록하지 않음 (changed_fields = null).
+ * - 파티션 Step에서 동시에 실행되므로, 지문 조회 전에 Chunk의 유기번호를 점유(DesertionNoLocks)해서
+ *   같은 유기번호가 두 파티션에서 모두 신규로 분류되지 않도록 함.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnimalJdbcItemWriter implements ItemWriter<AnimalsEntity> {
+
+    // content_hash, last_sync_run, create_at, update_at을 제외한 데이터 컬럼 (desertion_no 다음 순서대로 바인딩)
+    // AnimalStagingItemWriter도 같은 컬럼 순서와 bind()를 사용, 보관 테이블(AnimalArchiveRepository)도 같은 컬럼으로 생성
+    public static final List<String> COLUMNS = List.of(
+            "rfid_cd", "happen_dt", "happen_place", "up_kind_nm", "kind_nm", "color_cd", "age", "weight",
+            "notice_sdt", "notice_edt", "popfile1", "popfile2", "process_state", "sex_cd", "neuter_yn",
+            "special_mark", "care_nm", "care_tel", "care_addr", "care_owner_nm", "org_nm", "etc_bigo",
+            "happen_date", "notice_start_date", "notice_end_date", "weight_grams", "birth_year");
+
+    /**
+     * MySQL은 ON DUPLICATE KEY UPDATE의 대입을 왼쪽부터 순서대로 평가하므로,
+     * 다른 컬럼이 바뀌기 전에 update_at을 먼저 계산해야 기존 값과 비교할 수 있다.
+     * MySQL(8.0.19+)에서는 행 별칭(AS new)으로 INSERT 값을 참조한다. (VALUES(col)은 8.0.20부터 deprecated, 경고 1287)
+     * 테스트/벤치마크용 H2(MySQL 모드)는 행 별칭을 지원하지 않으므로 VALUES(col)을 사용한다.
+     */
+    private static final String UPSERT_SQL = buildUpsertSql(true);
+    private static final String H2_UPSERT_SQL = buildUpsertSql(false);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기존 데이터의 내용 지문 조회용
+    private final AnimalsRepository animalsRepository;
+
+    // 집계 건수(animal_facet_count) 반영용
+    private final AnimalFacetRepository facetRepository;
+
+    // 변경 기록(animal_change_outbox) 추가용
+    private final AnimalChangeRepository changeRepository;
+
+    // 신규/변경/변경 없음 건수 지표
+    private final AnimalSyncMetrics metrics;
+
+    // 파티션 간 유기번호 단위 쓰기 잠금
+    private final DesertionNoLocks desertionNoLocks;
+
+    // 접속한 DB에 맞는 upsert SQL (첫 write 때 결정)
+    private volatile String upsertSql;
+
+    /**
+     * Chunk 단위로 넘어온 동물 정보를 배치 upsert 한다.
+     * Step의 Chunk 트랜잭션 안에서 실행되므로 별도의 @Transactional은 필요 없음.
+     */
+    @Override
+    public void write(Chunk<? extends AnimalsEntity> items) {
+        // 같은 Chunk 안에 유기번호가 중복되면 마지막 값만 사용
+        Map<String, AnimalsEntity> incomingById = new LinkedHashMap<>();
+        for (AnimalsEntity incoming : items) {
+            incomingById.put(incoming.getDesertionNo(), incoming);
+        }
+
+        // 이번 동기화 실행 번호 (삭제 대상 판별용)
+        long syncRunId = SyncRun.currentId();
+
+        // 다른 파티션이 같은 유기번호를 쓰는 중이면 커밋될 때까지 기다린 뒤 조회 (신규/변경 분류가 겹치지 않도록)
+        // Chunk 트랜잭션의 첫 조회보다 먼저 점유해야 기다린 뒤의 조회가 다른 파티션의 커밋 결과를 본다
+        desertionNoLocks.claimUntilCompletion(incomingById.keySet());
+
+        // 지문이 같은(내용이 바뀌지 않은) 데이터는 전송 대상에서 제외
+        Map<String, Long> storedHashes = animalsRepository.findContentHashMap(incomingById.keySet());
+        List<AnimalsEntity> rows = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        for (AnimalsEntity incoming : incomingById.values()) {
+            String desertionNo = incoming.getDesertionNo();
+            if (!storedHashes.containsKey(desertionNo)) {
+                rows.add(incoming);
+            } else if (!Objects.equals(storedHashes.get(desertionNo), incoming.getContentHash())) {
+                rows.add(incoming);
+                changed.add(desertionNo);
+            } else {
+                unchanged.add(desertionNo);
+            }
+        }
+
+        // 내용이 같은 데이터는 실행 번호만 일괄 기록
+        if (!unchanged.isEmpty()) {
+            animalsRepository.markSynced(unchanged, syncRunId);
+        }
+        metrics.recordWrite(rows.size() - changed.size(), changed.size(), unchanged.size());
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // upsert 전에 변경 대상의 기존 집계 값을 조회해서 변경분 계산
+        Map<String, AnimalFacets> storedFacets = facetRepository.findFacets(changed);
+        FacetDelta facetDelta = new FacetDelta();
+        List<Change> changes = new ArrayList<>(rows.size());
+        for (AnimalsEntity row : rows) {
+            AnimalFacets before = storedFacets.get(row.getDesertionNo());
+            if (before == null) {
+                facetDelta.add(AnimalFacets.of(row));
+                changes.add(new Change(row.getDesertionNo(), ChangeType.INSERTED, null));
+            } else {
+                facetDelta.change(before, AnimalFacets.of(row));
+                changes.add(new Change(row.getDesertionNo(), ChangeType.UPDATED, null));
+            }
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(upsertSql(), rows, rows.size(), (ps, animal) -> bind(ps, animal, now, syncRunId));
+        facetRepository.apply(facetDelta);
+        changeRepository.append(changes, syncRunId);
+    }
+
+    // PreparedStatement 파라미터 바인딩 (desertion_no, COLUMNS..., content_hash, last_sync_run, create_at, update_at)
+    static void bind(PreparedStatement ps, AnimalsEntity animal, Timestamp now, long syncRunId) throws SQLException {
+        int i = 1;
+        ps.setString(i++, animal.getDesertionNo());
+        ps.setString(i++, animal.getRfidCd());
+        ps.setString(i++, animal.getHappenDt());
+        ps.setString(i++, animal.getHappenPlace());
+        ps.setString(i++, animal.getUpKindNm());
+        ps.setString(i++, animal.getKindNm());
+        ps.setString(i++, animal.getColorCd());
+        ps.setString(i++, animal.getAge());
+        ps.setString(i++, animal.getWeight());
+        ps.setString(i++, animal.getNoticeSdt());
+        ps.setString(i++, animal.getNoticeEdt());
+        ps.setString(i++, animal.getPopfile1());
+        ps.setString(i++, animal.getPopfile2());
+        ps.setString(i++, animal.getProcessState());
+        ps.setString(i++, animal.getSexCd() == null ? null : animal.getSexCd().name());
+        ps.setString(i++, animal.getNeuterYn() == null ? null : animal.getNeuterYn().name());
+        ps.setString(i++, animal.getSpecialMark());
+        ps.setString(i++, animal.getCareNm());
+        ps.setString(i++, animal.getCareTel());
+        ps.setString(i++, animal.getCareAddr());
+        ps.setString(i++, animal.getCareOwnerNm());
+        ps.setString(i++, animal.getOrgNm());
+        ps.setString(i++, animal.getEtcBigo());
+        ps.setObject(i++, animal.getHappenDate(), Types.DATE);
+        ps.setObject(i++, animal.getNoticeStartDate(), Types.DATE);
+        ps.setObject(i++, animal.getNoticeEndDate(), Types.DATE);
+        ps.setObject(i++, animal.getWeightGrams(), Types.INTEGER);
+        ps.setObject(i++, animal.getBirthYear(), Types.INTEGER);
+        ps.setObject(i++, animal.getContentHash(), Types.BIGINT);
+        ps.setLong(i++, syncRunId);
+        ps.setTimestamp(i++, now); // create_at
+        ps.setTimestamp(i, now);   // update_at
+    }
+
+    // H2(테스트/벤치마크)이면 VALUES(col) 형식, 그 외(MySQL)는 행 별칭 형식
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_UPSERT_SQL : UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * INSERT INTO abandoned_animals (...) VALUES (...) AS new
+     * ON DUPLICATE KEY UPDATE
+     *   update_at = CASE WHEN (값이 바뀐 컬럼이 있음) THEN new.update_at ELSE update_at END,
+     *   rfid_cd = new.rfid_cd, ...,
+     *   content_hash = new.content_hash, last_sync_run = new.last_sync_run
+     *
+     * @param rowAlias true면 행 별칭(new.col), false면 VALUES(col)로 INSERT 값을 참조
+     */
+    private static String buildUpsertSql(boolean rowAlias) {
+        String incoming = rowAlias ? "new.%1$s" : "VALUES(%1$s)";
+        String insertColumns = "desertion_no, " + String.join(", ", COLUMNS) + ", content_hash, last_sync_run, create_at, update_at";
+        String placeholders = COLUMNS.stream().map(c -> "?").collect(Collectors.joining(", ", "?, ", ", ?, ?, ?, ?"));
+
+        // 한쪽만 null이거나 값이 다르면 변경된 것으로 판단 (null-safe 비교, H2 MySQL 모드에서도 동작하도록 <=> 대신 사용)
+        String changed = COLUMNS.stream()
+                .map(c -> String.format("((%1$s IS NULL) <> (%2$s IS NULL) OR %1$s <> %2$s)", c, String.format(incoming, c)))
+                .collect(Collectors.joining(" OR "));
+
+        // API 값으로 교체 (null 포함) → 저장된 content_hash와 행 내용이 일치
+        String assignments = COLUMNS.stream()
+                .map(c -> c + " = " + String.format(incoming, c))
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO abandoned_animals (" + insertColumns + ") VALUES (" + placeholders + ")"
+                + (rowAlias ? " AS new" : "")
+                + " ON DUPLICATE KEY UPDATE"
+                + " update_at = CASE WHEN " + changed + " THEN " + String.format(incoming, "update_at") + " ELSE update_at END, "
+                + assignments
+                + ", content_hash = " + String.format(incoming, "content_hash")
+                + ", last_sync_run = " + String.format(incoming, "last_sync_run");
+    }
+}
@@ -0,0 +1,44 @@
+package com.playdata.petevent.api.batch.writer;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.repository.AnimalStagingRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * fullRefreshAnimalJob에서 API 전체 데이터를 스테이징 테이블(abandoned_animals_staging)에 적재하는 ItemWriter 구현체.
+
+ * - 스테이징 테이블은 매 실행마다 비어 있는 상태로 새로 만들어지므로 기존 데이터 조회/비교 없이 INSERT 배치만 실행.
+ * - 컬럼 순서와 값 바인딩은 AnimalJdbcItemWriter와 동일 (create_at/update_at은 교체 직전에 기존 테이블 값으로 복원).
+ * - 같은 실행 안의 중복 유기번호는 AnimalProcessor에서 걸러짐.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnimalStagingItemWriter implements ItemWriter<AnimalsEntity> {
+
+    private static final String INSERT_SQL = "INSERT INTO " + AnimalStagingRepository.STAGING_TABLE
+            + " (desertion_no, " + String.join(", ", AnimalJdbcItemWriter.COLUMNS)
+            + ", content_hash, last_sync_run, create_at, update_at) VALUES ("
+            + AnimalJdbcItemWriter.COLUMNS.stream().map(c -> "?").collect(Collectors.joining(", ", "?, ", ", ?, ?, ?, ?"))
+            + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void write(Chunk<? extends AnimalsEntity> items) {
+        long syncRunId = SyncRun.currentId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, items.getItems(), items.size(),
+                (ps, animal) -> AnimalJdbcItemWriter.bind(ps, animal, now, syncRunId));
+    }
+}
@@ -0,0 +1,100 @@
+package com.playdata.petevent.api.batch.writer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유기번호 단위 쓰기 잠금 (애플리케이션 전체에서 공유).
+
+ * 보호 상태별 파티션은 동시에 실행되고 파티션마다 DesertionNoTracker가 따로 있으므로,
+ * 실행 중 공고중 → 보호중으로 바뀐 데이터는 두 파티션의 Writer에 동시에 들어올 수 있다.
+ * 두 Chunk가 모두 "기존 데이터 없음"으로 판단하면 집계 건수/변경 기록이 두 번 반영되거나(JDBC)
+ * 중복 키 오류로 skip 한도를 소모한다(JPA).
+
+ * - Writer는 기존 지문을 조회하기 전에 Chunk의 유기번호를 모두 점유하고, Chunk 트랜잭션이 끝나면(커밋/롤백) 해제한다.
+ *   → 같은 유기번호를 가진 다른 Chunk는 먼저 점유한 Chunk가 커밋된 뒤에 조회하므로 기존 데이터로 분류한다.
+ * - 유기번호 순서대로 점유하므로 서로 기다리는 교착 상태가 생기지 않는다.
+ * - 실제로 겹치는 유기번호가 있을 때만 기다리므로 파티션의 동시 쓰기는 유지된다.
+ * - 트랜잭션 밖에서는 해제 시점을 알 수 없으므로 점유하지 않는다.
+ */
+@Component
+public class DesertionNoLocks {
+
+    private final ConcurrentMap<String, Claim> claims = new ConcurrentHashMap<>();
+
+    /**
+     * 유기번호들을 점유하고 현재 트랜잭션이 끝날 때 해제하도록 등록한다.
+     * 다른 트랜잭션이 점유 중인 유기번호가 있으면 해제될 때까지 기다린다.
+     *
+     * @throws IllegalStateException 기다리는 중 인터럽트된 경우
+     */
+    public void claimUntilCompletion(Collection<String> desertionNos) {
+        if (desertionNos.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Claim mine = new Claim(Thread.currentThread());
+        List<String> claimed = new ArrayList<>(desertionNos.size());
+        try {
+            for (String desertionNo : new TreeSet<>(desertionNos)) {
+                if (claim(desertionNo, mine)) {
+                    claimed.add(desertionNo);
+                }
+            }
+        } catch (InterruptedException e) {
+            release(claimed, mine);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("유기번호 쓰기 잠금 대기 중 인터럽트됨", e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(claimed, mine);
+            }
+        });
+    }
+
+    /**
+     * @return 새로 점유했으면 true, 같은 스레드(트랜잭션)가 이미 점유하고 있으면 false
+     */
+    private boolean claim(String desertionNo, Claim mine) throws InterruptedException {
+        while (true) {
+            Claim current = claims.putIfAbsent(desertionNo, mine);
+            if (current == null) {
+                return true;
+            }
+            if (current.owner == mine.owner) {
+                return false;
+            }
+            current.released.await();
+        }
+    }
+
+    private void release(List<String> claimed, Claim mine) {
+        for (String desertionNo : claimed) {
+            claims.remove(desertionNo, mine);
+        }
+        mine.released.countDown();
+    }
+
+    // 한 번의 점유 (점유한 스레드, 해제 알림)
+    private static final class Claim {
+
+        private final Thread owner;
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private Claim(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
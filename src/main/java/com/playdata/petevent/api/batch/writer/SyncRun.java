@@ -0,0 +1,28 @@
+package com.playdata.petevent.api.batch.writer;
+
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * 현재 실행 중인 동기화 실행 번호(sync run id) 조회 헬퍼.
+ * 실행 번호로는 JobInstance id를 사용하며, 새로 실행될 때마다 증가하므로
+ * "이번 실행보다 작은 번호가 찍힌 데이터 = 이번 실행에서 API에 없던 데이터"로 판단할 수 있다.
+ * 실패한 Job을 재시작해도 JobInstance는 같으므로, 재시작 전에 기록한 데이터도 같은 실행으로 취급된다.
+ */
+final class SyncRun {
+
+    private SyncRun() {
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 Step의 JobInstance id를 반환한다.
+     * @throws IllegalStateException Step 실행 밖에서 호출된 경우
+     */
+    static long currentId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            throw new IllegalStateException("Step 실행 중이 아니므로 동기화 실행 번호를 알 수 없습니다.");
+        }
+        return context.getStepExecution().getJobExecution().getJobInstance().getInstanceId();
+    }
+}
@@ -0,0 +1,69 @@
+package com.playdata.petevent.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.playdata.petevent.api.config.AnimalQueryProperties;
+import com.playdata.petevent.api.dto.AnimalPageResponse;
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.CacheStatsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유기동물 목록 조회 결과 캐시 (Caffeine, 프로세스 내).
+
+ * - 데이터는 동기화 Job이 쓸 때만 바뀌므로, 동기화 Step이 끝날 때 전체를 무효화하고 그 사이에는 캐시에서 응답
+ * - 키는 정규화한 조회 조건 + cursor (AnimalSearchCondition.normalized)
+ * - 최대 항목 수를 넘으면 W-TinyLFU 정책으로 자주 쓰이지 않는 항목부터 제거
+ * - 같은 키에 대한 동시 미스는 하나의 DB 조회로 합쳐지고, 나머지 요청은 그 결과를 기다림
+ *   (동기화 직후 무효화된 상태에서 요청이 몰려도 키마다 쿼리는 한 번)
+ * - 적중/미스/제거 통계를 cache.* 지표(cache=animalQuery)로 등록
+ */
+@Component
+public class AnimalQueryCache {
+
+    private final Cache<AnimalSearchCondition, AnimalPageResponse> cache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AnimalQueryCache(AnimalQueryProperties properties, MeterRegistry registry) {
+        this.cache = CaffeineCacheMetrics.monitor(registry, Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheExpireAfterWrite())
+                .recordStats()
+                .build(), "animalQuery");
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없으면 loader로 조회해 저장한다.
+     * loader는 키마다 한 번만 실행되며, 실패하면 저장하지 않고 예외를 그대로 전달한다.
+     */
+    public AnimalPageResponse get(AnimalSearchCondition key, Function<AnimalSearchCondition, AnimalPageResponse> loader) {
+        return cache.get(key, loader);
+    }
+
+    /**
+     * 전체 무효화 (동기화로 데이터가 바뀐 뒤 호출)
+     * cursor가 가리키는 위치와 페이지 구성이 함께 바뀌므로 키 단위가 아닌 전체를 비운다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        invalidations.incrementAndGet();
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount(),
+                invalidations.get());
+    }
+}
@@ -0,0 +1,222 @@
+package com.playdata.petevent.api.client;
+
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import com.playdata.petevent.api.config.AnimalApiProperties;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 농림축산식품부 유기동물 조회 서비스(data.go.kr abandonmentPublic_v2) 호출 클라이언트.
+
+ * 애플리케이션 전체에서 하나의 인스턴스를 공유한다.
+ * - HttpClient를 한 번만 생성하여 커넥션 풀/TLS 세션을 재사용 (HTTP/2 우선, keep-alive)
+ * - gzip 압축 응답 요청 및 해제
+ * - 연결/응답 타임아웃 적용
+ * - 네트워크 오류, 429, 5xx, 응답 파싱 실패 시 지터가 적용된 지수 백오프로 재시도
+ * - 초당 요청 수 제한 (animal.api.rate-limit-per-second)
+ * - 서비스 키와 URL은 application.yml(animal.api)에서 주입
+ * - 시도마다 호출 시간과 받은 바이트 수(압축 해제 전)를 보호 상태별 지표로 기록 (AnimalSyncMetrics)
+ */
+@Slf4j
+@Component
+public class AnimalApiClient {
+
+    private final AnimalApiProperties properties;
+
+    private final AnimalPageParser pageParser;
+
+    private final AnimalSyncMetrics metrics;
+
+    private final HttpClient httpClient;
+
+    // 요청 속도 제한용: 다음 요청을 보낼 수 있는 시각 (System.nanoTime 기준)
+    private final Object rateLock = new Object();
+    private long nextPermitNanos = 0;
+
+    public AnimalApiClient(AnimalApiProperties properties, AnimalPageParser pageParser, AnimalSyncMetrics metrics) {
+        this.properties = properties;
+        this.pageParser = pageParser;
+        this.metrics = metrics;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)        // 서버가 지원하면 HTTP/2, 아니면 HTTP/1.1 keep-alive
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 조회 조건(보호 상태, 검색 기간)에 해당하는 유기동물 목록 한 페이지를 조회한다.
+     *
+     * @param query     조회 조건
+     * @param pageNo    페이지 번호 (1부터 시작)
+     * @param numOfRows 페이지 크기
+     * @return 파싱된 페이지
+     * @throws AnimalApiException 재시도 횟수를 모두 소진해도 실패한 경우
+     */
+    public AnimalPage fetchPage(AnimalQuery query, int pageNo, int numOfRows) {
+        String state = query.state();
+
+        // API 호출용 URL 조립 (서비스 키는 이미 URL 인코딩된 값을 사용)
+        String url = String.format("%s?serviceKey=%s&_type=json&numOfRows=%d&pageNo=%d%s",
+                properties.getBaseUrl(), properties.getServiceKey(), numOfRows, pageNo, query.toQueryString());
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(properties.getReadTimeout())     // 응답 대기 타임아웃
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")       // 압축 응답 요청
+                .GET()
+                .build();
+
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        Exception lastError = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            CountingInputStream received = null;
+            long startedAt = 0;
+            boolean success = false;
+            try {
+                acquirePermit();
+
+                startedAt = System.nanoTime();
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                received = new CountingInputStream(response.body());
+                try (InputStream body = decode(response, received)) {
+                    int status = response.statusCode();
+                    if (status == 200) {
+                        AnimalPage page = pageParser.parse(state, pageNo, body);
+                        success = true;
+                        return page;
+                    }
+                    if (status != 429 && status < 500) {
+                        // 4xx(429 제외)는 재시도해도 결과가 같으므로 즉시 실패
+                        throw new AnimalApiException(String.format("API 호출 실패 - HTTP %d (state=%s, pageNo=%d)", status, state, pageNo));
+                    }
+                    lastError = new AnimalApiException("HTTP " + status);
+                }
+
+            } catch (IOException e) {
+                // 연결 실패, 타임아웃, 응답 파싱 실패 등
+                lastError = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AnimalApiException("API 호출 중단", e);
+            } finally {
+                // 속도 제한 대기 시간은 제외하고 요청 → 응답 파싱 완료까지 기록
+                if (startedAt != 0) {
+                    metrics.recordPage(state, System.nanoTime() - startedAt, received == null ? 0 : received.count, success);
+                }
+            }
+
+            if (attempt < maxAttempts) {
+                long delayMillis = backoffMillis(attempt);
+                log.warn("API 호출 실패 (state={}, pageNo={}, 시도 {}/{}), {}ms 후 재시도: {}",
+                        state, pageNo, attempt, maxAttempts, delayMillis, lastError.toString());
+                sleep(delayMillis);
+            }
+        }
+
+        throw new AnimalApiException(String.format("API 호출 실패 (state=%s, pageNo=%d)", state, pageNo), lastError);
+    }
+
+    /**
+     * 응답이 gzip으로 압축되어 있으면 압축을 해제한 스트림을 반환한다.
+     */
+    private InputStream decode(HttpResponse<InputStream> response, InputStream body) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        return gzip ? new GZIPInputStream(body) : body;
+    }
+
+    /**
+     * 초당 요청 수 제한.
+     * 요청 간격을 일정하게 유지하도록 다음 요청 가능 시각까지 대기한다.
+     */
+    private void acquirePermit() throws InterruptedException {
+        double permitsPerSecond = properties.getRateLimitPerSecond();
+        if (permitsPerSecond <= 0) {
+            return; // 0 이하이면 제한 없음
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        long waitNanos;
+        synchronized (rateLock) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 지수 백오프 + full jitter.
+     * attempt번째 실패 후 0 ~ min(maxBackoff, initialBackoff * 2^(attempt-1)) 사이에서 무작위로 대기한다.
+     */
+    private long backoffMillis(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long ceiling = Math.min(max, initial << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnimalApiException("API 호출 중단", e);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 스트림 (압축 해제 전 응답 크기 측정용)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
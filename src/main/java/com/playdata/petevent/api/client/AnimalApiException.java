@@ -0,0 +1,15 @@
+package com.playdata.petevent.api.client;
+
+/**
+ * 유기동물 공공 API 호출이 재시도 후에도 실패했을 때 발생하는 예외.
+ */
+public class AnimalApiException extends RuntimeException {
+
+    public AnimalApiException(String message) {
+        super(message);
+    }
+
+    public AnimalApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
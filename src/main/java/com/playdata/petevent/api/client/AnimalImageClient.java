@@ -0,0 +1,64 @@
+package com.playdata.petevent.api.client;
+
+import com.playdata.petevent.api.config.AnimalImageProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유기동물 원본 이미지(popfile1/popfile2) 다운로드 클라이언트.
+ * - HttpClient를 한 번만 생성하여 커넥션을 재사용
+ * - 연결/응답 타임아웃 적용
+ * - animal.image.max-source-size보다 큰 응답은 끝까지 읽지 않고 실패 처리
+ * 재시도하지 않는다. (실패한 이미지는 원본 URL이 바뀌거나 다시 요청될 때 다시 내려받음)
+ */
+@Component
+public class AnimalImageClient {
+
+    private final AnimalImageProperties properties;
+
+    private final HttpClient httpClient;
+
+    public AnimalImageClient(AnimalImageProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 원본 이미지를 내려받는다.
+     *
+     * @throws IOException 연결 실패, 타임아웃, 200이 아닌 응답, 최대 크기 초과
+     */
+    public byte[] download(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(properties.getReadTimeout())
+                .header("Accept", "image/*")
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        long maxBytes = properties.getMaxSourceSize().toBytes();
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            if (contentLength > maxBytes) {
+                throw new IOException("이미지 크기 초과 (" + contentLength + " bytes)");
+            }
+            byte[] bytes = body.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxBytes + 1));
+            if (bytes.length > maxBytes) {
+                throw new IOException("이미지 크기 초과");
+            }
+            return bytes;
+        }
+    }
+}
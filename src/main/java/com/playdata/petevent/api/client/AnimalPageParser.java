@@ -0,0 +1,21 @@
+package com.playdata.petevent.api.client;
+
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 공공 API 응답 본문(JSON)을 AnimalPage로 변환하는 파서.
+ * 구조: response -> body -> items -> item (배열 또는 단일 객체), body.totalCount
+ */
+public interface AnimalPageParser {
+
+    /**
+     * @param state  조회한 보호 상태 (protect, notice)
+     * @param pageNo 조회한 페이지 번호
+     * @param body   응답 본문 스트림 (압축 해제된 상태)
+     * @return 파싱된 페이지
+     * @throws IOException JSON 형식이 올바르지 않거나 스트림 읽기에 실패한 경우
+     */
+    AnimalPage parse(String state, int pageNo, InputStream body) throws IOException;
+}
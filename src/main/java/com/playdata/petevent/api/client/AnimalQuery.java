@@ -0,0 +1,42 @@
+package com.playdata.petevent.api.client;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 유기동물 목록 조회 조건.
+ *
+ * @param state 보호 상태 (protect: 보호중, notice: 공고중)
+ * @param uprCd 시도 코드 (null이면 전국)
+ * @param bgnde 검색 시작일 (null이면 조건 없음)
+ * @param endde 검색 종료일 (null이면 조건 없음)
+ */
+public record AnimalQuery(String state, String uprCd, LocalDate bgnde, LocalDate endde) {
+
+    // API 날짜 형식 (yyyyMMdd)
+    private static final DateTimeFormatter API_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 날짜 조건 없이 보호 상태만으로 조회 (전체 동기화)
+     */
+    public static AnimalQuery of(String state) {
+        return new AnimalQuery(state, null, null, null);
+    }
+
+    /**
+     * URL에 붙일 조회 조건 (&state=...&upr_cd=...&bgnde=...&endde=...)
+     */
+    String toQueryString() {
+        StringBuilder query = new StringBuilder("&state=").append(state);
+        if (uprCd != null) {
+            query.append("&upr_cd=").append(uprCd);
+        }
+        if (bgnde != null) {
+            query.append("&bgnde=").append(API_DATE.format(bgnde));
+        }
+        if (endde != null) {
+            query.append("&endde=").append(API_DATE.format(endde));
+        }
+        return query.toString();
+    }
+}
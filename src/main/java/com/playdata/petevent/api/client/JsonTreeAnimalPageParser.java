@@ -0,0 +1,90 @@
+package com.playdata.petevent.api.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.util.SafeEnumParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 전체를 JsonNode 트리로 읽은 뒤 item 단위로 AnimalsEntity를 만드는 파서.
+ * 페이지 전체가 트리로 메모리에 올라가므로 기본값은 StreamingAnimalPageParser이며,
+ * animal.api.parser=tree로 설정했을 때만 사용된다. (JMH 비교 기준으로도 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "animal.api.parser", havingValue = "tree")
+public class JsonTreeAnimalPageParser implements AnimalPageParser {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public AnimalPage parse(String state, int pageNo, InputStream in) throws IOException {
+        // 받은 응답을 JSON 객체로 파싱
+        JsonNode body = mapper.readTree(in)  // JSON 전체 트리로 변환
+                .path("response")            // 첫 번째 루트
+                .path("body");               // 실제 데이터가 들어있는 body
+
+        // 응답에서 동물 데이터 항목들(item)을 가져옴
+        JsonNode items = body.path("items").path("item");
+
+        List<AnimalsEntity> results = new ArrayList<>();
+
+        // item이 배열인 경우 (복수 개체): 하나씩 엔티티로 변환해서 리스트에 저장
+        if (items.isArray()) {
+            for (JsonNode item : items) {
+                results.add(parseToEntity(item)); // JSON → AnimalsEntity 변환 후 저장
+            }
+        // item이 단일 객체인 경우: 바로 변환해서 리스트에 저장
+        } else if (items.isObject()) {
+            results.add(parseToEntity(items)); // JSON → AnimalsEntity
+        }
+
+        // 총 데이터 개수 → 페이징 종료 조건 계산에 사용됨
+        return new AnimalPage(state, pageNo, body.path("totalCount").asInt(), results);
+    }
+
+    /**
+     * JsonNode를 AnimalsEntity 객체로 변환.
+     * API 응답 필드와 엔티티 필드 매핑 처리 및 enum 안전 변환 적용.
+     * desertionNo가 없거나 null이면 빈 문자열 (asText()는 JSON null을 "null" 문자열로 바꾸므로 기본값을 지정)
+     * 변환 후 날짜/숫자 변환 컬럼과 내용 지문(contentHash)을 함께 계산.
+     */
+    private AnimalsEntity parseToEntity(JsonNode item) {
+        AnimalsEntity entity = AnimalsEntity.builder()
+                .desertionNo(item.path("desertionNo").asText(""))
+                .rfidCd(item.path("rfidCd").asText(null))
+                .happenDt(item.path("happenDt").asText(null))
+                .happenPlace(item.path("happenPlace").asText(null))
+                .upKindNm(item.path("upKindNm").asText(null))
+                .kindNm(item.path("kindNm").asText(null))
+                .colorCd(item.path("colorCd").asText(null))
+                .age(item.path("age").asText(null))
+                .weight(item.path("weight").asText(null))
+                .noticeSdt(item.path("noticeSdt").asText(null))
+                .noticeEdt(item.path("noticeEdt").asText(null))
+                .popfile1(item.path("popfile1").asText(null))
+                .popfile2(item.path("popfile2").asText(null))
+                .processState(item.path("processState").asText(null))
+                .sexCd(SafeEnumParser.parseSexCode(item.path("sexCd").asText("Q")))
+                .neuterYn(SafeEnumParser.parseNeuterYn(item.path("neuterYn").asText("U")))
+                .specialMark(item.path("specialMark").asText(null))
+                .careNm(item.path("careNm").asText(null))
+                .careTel(item.path("careTel").asText(null))
+                .careAddr(item.path("careAddr").asText(null))
+                .careOwnerNm(item.path("careOwnerNm").asText(null))
+                .orgNm(item.path("orgNm").asText(null))
+                .etcBigo(item.path("etcBigo").asText(null))
+                .build();
+
+        // 날짜/숫자 변환 컬럼을 채운 뒤 변경 감지용 지문 계산 (변환 값도 지문에 포함)
+        entity.refreshTypedFields();
+        entity.refreshContentHash();
+        return entity;
+    }
+}
@@ -0,0 +1,177 @@
+package com.playdata.petevent.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.util.SafeEnumParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson 스트리밍 API(JsonParser)로 응답을 읽는 파서 (기본 파서).
+
+ * - 응답 본문을 String이나 JsonNode 트리로 만들지 않고 InputStream에서 토큰 단위로 읽음.
+ * - item 객체를 만나면 필드를 순서대로 읽어 바로 AnimalsEntity로 변환.
+ * - item이 배열인 경우와 단일 객체인 경우를 모두 처리.
+ * - 매핑하지 않는 필드(kindCd, noticeNo 등)나 예상하지 못한 중첩 구조는 건너뜀.
+ *
+ * animal.api.parser=tree로 설정하면 JsonTreeAnimalPageParser가 대신 사용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "animal.api.parser", havingValue = "streaming", matchIfMissing = true)
+public class StreamingAnimalPageParser implements AnimalPageParser {
+
+    // JsonFactory는 스레드 안전하므로 하나를 공유
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public AnimalPage parse(String state, int pageNo, InputStream in) throws IOException {
+        PageResult result = new PageResult();
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            // 구조: { "response": { "body": { "items": { "item": [...] }, "totalCount": n } } }
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readObject(parser, "response", () -> readObject(parser, "body", () -> readBody(parser, result)));
+            }
+        }
+
+        return new AnimalPage(state, pageNo, result.totalCount, result.items);
+    }
+
+    /**
+     * 현재 객체의 필드 중 fieldName에 해당하는 객체만 handler로 처리하고 나머지는 건너뛴다.
+     * 호출 시점에 parser는 START_OBJECT에 위치해야 한다.
+     */
+    private void readObject(JsonParser parser, String fieldName, FieldHandler handler) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals(name) && value == JsonToken.START_OBJECT) {
+                handler.handle();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * body 객체: totalCount와 items를 읽는다.
+     * 데이터가 없으면 items가 빈 문자열("")로 내려오는 경우도 있으므로 객체일 때만 처리.
+     */
+    private void readBody(JsonParser parser, PageResult result) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("totalCount".equals(name)) {
+                result.totalCount = parser.getValueAsInt(0);
+            } else if ("items".equals(name) && value == JsonToken.START_OBJECT) {
+                readItems(parser, result.items);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * items 객체: item이 배열이면 각 원소를, 단일 객체이면 그 객체를 AnimalsEntity로 변환한다.
+     */
+    private void readItems(JsonParser parser, List<AnimalsEntity> items) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("item".equals(name) && value == JsonToken.START_ARRAY) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        items.add(readItem(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("item".equals(name) && value == JsonToken.START_OBJECT) {
+                items.add(readItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * item 객체 하나를 AnimalsEntity로 변환한다.
+     * 트리 파서와 동일하게 값이 없으면 null, desertionNo는 빈 문자열, 성별/중성화 코드는 미상(Q/U)으로 처리.
+     * 변환 후 날짜/숫자 변환 컬럼과 내용 지문(contentHash)을 함께 계산.
+     */
+    private AnimalsEntity readItem(JsonParser parser) throws IOException {
+        AnimalsEntity.AnimalsEntityBuilder builder = AnimalsEntity.builder()
+                .desertionNo("")
+                .sexCd(AnimalsEntity.SexCode.Q)
+                .neuterYn(AnimalsEntity.NeuterYn.U);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            // 객체/배열 값은 매핑 대상이 아니므로 건너뜀
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            String value = parser.getValueAsString();
+
+            switch (name) {
+                case "desertionNo" -> builder.desertionNo(value == null ? "" : value);
+                case "rfidCd" -> builder.rfidCd(value);
+                case "happenDt" -> builder.happenDt(value);
+                case "happenPlace" -> builder.happenPlace(value);
+                case "upKindNm" -> builder.upKindNm(value);
+                case "kindNm" -> builder.kindNm(value);
+                case "colorCd" -> builder.colorCd(value);
+                case "age" -> builder.age(value);
+                case "weight" -> builder.weight(value);
+                case "noticeSdt" -> builder.noticeSdt(value);
+                case "noticeEdt" -> builder.noticeEdt(value);
+                case "popfile1" -> builder.popfile1(value);
+                case "popfile2" -> builder.popfile2(value);
+                case "processState" -> builder.processState(value);
+                case "sexCd" -> builder.sexCd(SafeEnumParser.parseSexCode(value));
+                case "neuterYn" -> builder.neuterYn(SafeEnumParser.parseNeuterYn(value));
+                case "specialMark" -> builder.specialMark(value);
+                case "careNm" -> builder.careNm(value);
+                case "careTel" -> builder.careTel(value);
+                case "careAddr" -> builder.careAddr(value);
+                case "careOwnerNm" -> builder.careOwnerNm(value);
+                case "orgNm" -> builder.orgNm(value);
+                case "etcBigo" -> builder.etcBigo(value);
+                default -> {
+                    // 매핑하지 않는 필드
+                }
+            }
+        }
+
+        // 날짜/숫자 변환 컬럼을 채운 뒤 변경 감지용 지문 계산 (변환 값도 지문에 포함)
+        AnimalsEntity entity = builder.build();
+        entity.refreshTypedFields();
+        entity.refreshContentHash();
+        return entity;
+    }
+
+    // 중첩 객체 처리용 콜백 (IOException 전달 가능)
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle() throws IOException;
+    }
+
+    // 파싱 중 누적되는 페이지 정보
+    private static final class PageResult {
+        private int totalCount;
+        private final List<AnimalsEntity> items = new ArrayList<>();
+    }
+}
@@ -0,0 +1,68 @@
+package com.playdata.petevent.api.config;
+
+import jakarta.validation.constraints.NotBlank;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 유기동물 공공 API 호출 관련 설정값.
+ * application.yml의 animal.api 하위 항목과 매핑된다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "animal.api")
+public class AnimalApiProperties {
+
+    // 유기동물 조회 서비스 URL
+    private String baseUrl = "https://apis.data.go.kr/1543061/abandonmentPublicService_v2/abandonmentPublic_v2";
+
+    // data.go.kr 서비스 키 (URL 인코딩된 값, 환경 변수 ANIMAL_API_SERVICE_KEY로만 주입 - 없으면 기동 실패)
+    @NotBlank
+    private String serviceKey;
+
+    // 연결 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    // 응답 대기 타임아웃
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    // 한 페이지 호출당 최대 시도 횟수 (첫 시도 포함)
+    private int maxAttempts = 4;
+
+    // 재시도 대기 시간의 시작값과 상한 (지수 백오프)
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+
+    // 초당 최대 요청 수 (0 이하이면 제한 없음)
+    private double rateLimitPerSecond = 10;
+
+    // 한 번의 API 호출로 가져올 데이터 수 (페이지 크기)
+    private int numOfRows = 500;
+
+    // Reader 동작 방식 (기본: 페이지 단위 스트리밍)
+    private ReaderMode readerMode = ReaderMode.STREAMING;
+
+    // PARALLEL 모드에서 동시에 호출할 최대 페이지 수 (API 호출 스레드 풀 크기)
+    private int parallelism = 4;
+
+    // PIPELINED 모드에서 미리 받아 둘 수 있는 최대 페이지 수 (큐 크기)
+    private int pipelineDepth = 2;
+
+    /**
+     * AnimalApiItemReader의 읽기 방식.
+     * - STREAMING: 현재 페이지를 모두 소비했을 때 다음 페이지를 호출
+     * - EAGER: 첫 read() 시점에 모든 페이지를 메모리에 적재한 뒤 순차 제공 (기존 방식)
+     * - PARALLEL: 1페이지로 전체 페이지 수를 확인한 뒤 나머지 페이지를 스레드 풀에서 동시에 호출
+     * - PIPELINED: 별도 스레드가 다음 페이지를 미리 호출해 큐에 넣고, Step은 큐에서 꺼내 처리 (호출과 DB 쓰기가 겹침)
+     */
+    public enum ReaderMode {
+        STREAMING,
+        EAGER,
+        PARALLEL,
+        PIPELINED
+    }
+}
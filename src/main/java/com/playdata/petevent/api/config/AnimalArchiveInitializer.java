@@ -0,0 +1,37 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.repository.AnimalArchiveRepository;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 유기동물 보관 테이블(abandoned_animals_archive)과 이번 달/다음 달 파티션을 생성한다.
+ * ddl-auto(update)는 파티션 테이블을 만들지 않으므로 별도로 실행하며, 삭제 모드에서도 보관 조회 API를 위해 생성한다.
+ * 생성에 실패해도(권한 부족 등) 애플리케이션은 시작하고, 보관 모드 동기화와 보관 조회 API만 사용할 수 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalArchiveInitializer implements ApplicationRunner {
+
+    private final AnimalArchiveRepository archiveRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            archiveRepository.ensureTable();
+            YearMonth now = YearMonth.now();
+            int added = archiveRepository.ensurePartitions(now, now.plusMonths(1));
+            if (added > 0) {
+                log.info("보관 테이블 파티션 {}개 추가: {}", added, AnimalArchiveRepository.TABLE);
+            }
+        } catch (DataAccessException e) {
+            log.error("보관 테이블 생성 실패 - 보관 모드 동기화와 보관 조회 API를 사용할 수 없음", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 변경 기록 쓰기 순서용 잠금 행(animal_change_outbox_lock, id = 1)을 만든다.
+ * 동시에 실행되는 Chunk 트랜잭션들이 처음 기록할 때 잠금 행을 함께 만들다가 서로 기다리지 않도록 미리 생성한다.
+ * 실패해도 애플리케이션은 시작하고, 첫 기록 시 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalChangeOutboxInitializer implements ApplicationRunner {
+
+    private final AnimalChangeRepository changeRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            changeRepository.ensureWriteLock();
+        } catch (DataAccessException e) {
+            log.warn("변경 기록 잠금 행 생성 실패 - 첫 기록 시 다시 생성: {}", e.toString());
+        }
+    }
+}
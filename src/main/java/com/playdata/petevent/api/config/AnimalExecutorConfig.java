@@ -0,0 +1,93 @@
+package com.playdata.petevent.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 유기동물 동기화(와 행사 정보 크롤러)에서 사용하는 스레드 풀 설정.
+ */
+@Configuration
+public class AnimalExecutorConfig {
+
+    /**
+     * 공공 API 페이지를 동시에 호출하기 위한 스레드 풀.
+     * - 스레드 수는 animal.api.parallelism으로 제한되어 API 서버에 과도한 동시 요청을 보내지 않음.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalApiExecutor(AnimalApiProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getParallelism());
+        executor.setMaxPoolSize(properties.getParallelism());
+        executor.setThreadNamePrefix("animal-api-");
+        return executor;
+    }
+
+    /**
+     * 파티션 Step(apiToDbWorkerStep)을 동시에 실행하기 위한 스레드 풀.
+     * - 스레드 수는 animal.sync.partition-concurrency로 제한되며, 남은 파티션은 큐에서 대기.
+     * - 파티션마다 Chunk 트랜잭션이 DB 커넥션을 하나씩 사용하므로 커넥션 풀 크기보다 작게 설정해야 함.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalPartitionExecutor(AnimalSyncProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPartitionConcurrency());
+        executor.setMaxPoolSize(properties.getPartitionConcurrency());
+        executor.setThreadNamePrefix("animal-sync-");
+        return executor;
+    }
+
+    /**
+     * 변경 피드 SSE 구독자마다 변경 기록을 조회/전송하는 스레드 풀.
+     * - 큐 없이 animal.feed.max-subscribers개까지만 받고, 초과한 구독 요청은 거절됨.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalFeedExecutor(AnimalFeedProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxSubscribers());
+        executor.setMaxPoolSize(properties.getMaxSubscribers());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("animal-feed-");
+        return executor;
+    }
+
+    /**
+     * 유기동물 원본 이미지 다운로드/썸네일 생성 스레드 풀.
+     * - 스레드 수는 animal.image.download-concurrency로 제한되어 원본 이미지 서버에 과도한 동시 요청을 보내지 않음.
+     * - 작업은 animalImageRefreshExecutor가 batch-size건씩만 넣으므로 큐가 커지지 않음.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalImageExecutor(AnimalImageProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getDownloadConcurrency());
+        executor.setMaxPoolSize(properties.getDownloadConcurrency());
+        executor.setThreadNamePrefix("animal-image-");
+        return executor;
+    }
+
+    /**
+     * 썸네일을 만들 이미지를 조회해서 animalImageExecutor에 나눠 주는 스레드 (하나).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalImageRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("animal-image-refresh-");
+        return executor;
+    }
+
+    /**
+     * 행사 정보 크롤링 실행 스레드 (하나).
+     * - 크롤링은 브라우저를 하나 띄우므로 한 번에 하나만 실행 (중복 실행은 CrawlerRunService에서 합침).
+     * - 애플리케이션 종료 시 실행 중인 크롤링은 인터럽트됨.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor petCrawlerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("pet-crawler-");
+        return executor;
+    }
+}
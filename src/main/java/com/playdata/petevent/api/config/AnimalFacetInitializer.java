@@ -0,0 +1,34 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.repository.AnimalFacetRepository;
+import com.playdata.petevent.api.service.AnimalFacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 집계 건수를 메모리로 불러온다.
+ * 집계 테이블이 비어 있으면(최초 실행) abandoned_animals 전체를 한 번 집계한다.
+ * 이후에는 동기화 Writer와 삭제 처리가 변경분만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalFacetInitializer implements ApplicationRunner {
+
+    private final AnimalFacetRepository facetRepository;
+
+    private final AnimalFacetService facetService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (facetRepository.isEmpty()) {
+            facetService.rebuild();
+            log.info("유기동물 집계 건수 초기 집계 완료");
+        } else {
+            facetService.refreshSnapshot();
+        }
+    }
+}
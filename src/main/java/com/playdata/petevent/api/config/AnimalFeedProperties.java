@@ -0,0 +1,31 @@
+package com.playdata.petevent.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유기동물 변경 피드(animal_change_outbox) 관련 설정값.
+ * application.yml의 animal.feed 하위 항목과 매핑된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "animal.feed")
+public class AnimalFeedProperties {
+
+    // 한 번에 조회/전송하는 최대 변경 기록 수
+    private int batchSize = 500;
+
+    // 동시에 연결할 수 있는 SSE 구독자 수 (구독자마다 스레드 하나 사용)
+    private int maxSubscribers = 16;
+
+    // 새 변경이 없을 때 연결 유지를 위해 보내는 heartbeat 간격
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    // SSE 연결 유지 시간 (끊기면 클라이언트가 Last-Event-ID로 이어서 재연결)
+    private Duration subscriptionTimeout = Duration.ofMinutes(30);
+
+    // 변경 기록 보관 기간 (동기화 Job 성공 후 지난 기록 삭제)
+    private Duration retention = Duration.ofDays(14);
+}
@@ -0,0 +1,216 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.batch.processor.AnimalProcessor;
+import com.playdata.petevent.api.batch.processor.DesertionNoTracker;
+import com.playdata.petevent.api.batch.processor.InvalidAnimalException;
+import com.playdata.petevent.api.batch.reader.AnimalApiItemReader;
+import com.playdata.petevent.api.batch.writer.AnimalStagingItemWriter;
+import com.playdata.petevent.api.cache.AnimalQueryCache;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.repository.AnimalStagingRepository;
+import com.playdata.petevent.api.service.AnimalFacetService;
+import com.playdata.petevent.api.service.AnimalImageService;
+import com.playdata.petevent.api.service.AnimalReconciliationService;
+import com.playdata.petevent.api.service.Impl.AnimalReconciliationServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 전체 교체(full refresh) 배치 잡 설정.
+
+ * syncAnimalJob의 FULL 동기화는 행마다 upsert + 삭제를 수행하지만,
+ * 이 잡은 API 전체 데이터를 빈 스테이징 테이블에 큰 배치로 적재한 뒤 운영 테이블과 통째로 교체한다.
+ * 교체는 RENAME TABLE 한 문장으로 이루어지므로 조회하는 쪽은 절반만 동기화된 테이블을 보지 않는다.
+
+ * 구성 요소:
+ * - prepareStagingStep: abandoned_animals와 같은 구조의 빈 스테이징 테이블 생성 (보관 모드이면 보관 테이블 파티션 준비)
+ * - loadStagingStep: AnimalApiItemReader → AnimalProcessor → AnimalStagingItemWriter (JDBC 배치 INSERT)
+ * - swapStagingStep: 건수 검증 → create_at 복원, 보존 대상(보호중) 복사 → 변경 기록 → (보관) → 테이블 교체
+ * - finishRefreshStep: 목록 조회 캐시 무효화, 집계 건수 재계산, 썸네일 정리
+ * - AnimalSyncJobListener: 성공 시 동기화 워터마크 갱신
+
+ * 검증 실패 시 Job은 실패하고 운영 테이블은 그대로 유지된다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AnimalFullRefreshJobConfig {
+
+    private final JobRepository jobRepository;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final AnimalApiItemReader reader;
+
+    private final AnimalProcessor processor;
+
+    // 스테이징 테이블 적재용 Writer
+    private final AnimalStagingItemWriter stagingWriter;
+
+    // 스테이징 테이블 생성/검증/교체
+    private final AnimalStagingRepository stagingRepository;
+
+    private final AnimalSyncProperties syncProperties;
+
+    private final AnimalSkipListener skipListener;
+
+    private final DesertionNoTracker desertionNoTracker;
+
+    private final AnimalSyncJobListener jobListener;
+
+    // 동기화 지표 기록용 Listener
+    private final AnimalSyncMetricsListener metricsListener;
+
+    // 목록 조회 결과 캐시 (테이블 교체 후 무효화)
+    private final AnimalQueryCache animalQueryCache;
+
+    // 집계 건수 (테이블 교체 후 전체 재집계)
+    private final AnimalFacetService facetService;
+
+    // 변경 기록 (교체 직전에 스테이징/운영 테이블 차이를 기록)
+    private final AnimalChangeRepository changeRepository;
+
+    // 썸네일 (테이블 교체 후 없어진 유기동물의 썸네일 정리)
+    private final AnimalImageService imageService;
+
+    // 보관 모드이면 교체로 사라지는 데이터를 보관 테이블에 복사
+    private final AnimalReconciliationService reconciliationService;
+
+    /**
+     * Step 정의 - 'prepareStagingStep'
+     * 이전 실행에서 남은 스테이징 테이블을 지우고 새로 만든다.
+     * 보관 모드이면 보관 테이블 파티션도 여기서 만든다 (DDL은 자동 커밋되므로 교체 Step의 보관 INSERT와 분리).
+     */
+    @Bean
+    public Step prepareStagingStep() {
+        return new StepBuilder("prepareStagingStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    stagingRepository.recreateStagingTable();
+                    reconciliationService.prepareArchive();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * Step 정의 - 'loadStagingStep'
+     * - 스테이징 테이블은 비어 있으므로 기존 데이터 비교 없이 INSERT만 수행
+     * - Chunk 크기를 크게(animal.sync.staging-chunk-size) 잡아 트랜잭션 수를 줄임
+     * - 실패 후 재시작하면 Reader가 저장한 위치부터 이어서 적재
+     */
+    @Bean
+    public Step loadStagingStep() {
+        return new StepBuilder("loadStagingStep", jobRepository)
+                .<AnimalsEntity, AnimalsEntity>chunk(syncProperties.getStagingChunkSize(), transactionManager)
+                .reader(reader)
+                .processor(processor)
+                .writer(stagingWriter)
+                .faultTolerant()
+                .skip(InvalidAnimalException.class)
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(syncProperties.getSkipLimit())
+                .listener(skipListener)
+                .listener((ChunkListener) desertionNoTracker)
+                .listener((ChunkListener) metricsListener)
+                .listener((ItemWriteListener<AnimalsEntity>) metricsListener)
+                .listener((StepExecutionListener) metricsListener)
+                .build();
+    }
+
+    /**
+     * Step 정의 - 'swapStagingStep'
+     * 1. 적재 건수 검증: 비어 있거나 기존 데이터 수 × refresh-min-ratio 보다 적으면 실패 (API 장애로 일부만 받은 경우)
+     * 2. 기존 테이블의 create_at 복원, API에 없는 보호중 데이터 복사
+     * 3. 교체로 추가/변경/삭제되는 데이터를 변경 기록에 추가 (보관 모드이면 사라지는 데이터를 보관 테이블에 복사)
+     * 4. RENAME TABLE로 교체
+
+     * 교체(DROP/RENAME)는 암묵적으로 커밋하므로 Step 트랜잭션으로 묶이지 않는다. 재시작해도 결과가 같도록:
+     * - 스테이징 테이블이 없으면 이전 시도에서 교체까지 끝난 것이므로 남은 이전 테이블만 정리하고 종료
+     * - 이번 실행의 변경 기록/보관 기록이 이미 있으면(교체 직전 커밋 후 실패) 다시 기록하지 않음
+     * 교체 후 작업(캐시 무효화, 집계 재계산, 썸네일 정리)은 finishRefreshStep에서 따로 실행한다.
+     */
+    @Bean
+    public Step swapStagingStep() {
+        return new StepBuilder("swapStagingStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    if (!stagingRepository.stagingExists()) {
+                        stagingRepository.dropOld();
+                        log.info("스테이징 테이블이 없어 교체를 건너뜀 (이전 시도에서 교체 완료)");
+                        return RepeatStatus.FINISHED;
+                    }
+
+                    long loaded = stagingRepository.countStaging();
+                    long live = stagingRepository.countLive();
+                    if (loaded == 0 || loaded < live * syncProperties.getRefreshMinRatio()) {
+                        throw new IllegalStateException(String.format(
+                                "스테이징 데이터 수가 부족하여 교체하지 않음 (스테이징 %d건, 기존 %d건, 최소 비율 %.2f)",
+                                loaded, live, syncProperties.getRefreshMinRatio()));
+                    }
+
+                    int kept = stagingRepository.restoreFromLive(AnimalReconciliationServiceImpl.KEEP_PROCESS_STATE);
+                    long syncRunId = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getJobInstance().getInstanceId();
+                    // RENAME TABLE이 암묵적으로 커밋하므로 변경 기록/보관 INSERT는 교체 직전에 실행
+                    // 스테이징 적재는 변경 기록을 남기지 않으므로 이번 실행 번호의 기록이 있으면 이전 시도에서 기록한 것
+                    int recorded = changeRepository.hasChanges(syncRunId) ? 0 : changeRepository.appendStagingDiff(syncRunId);
+                    int archived = reconciliationService.archiveMissingFromStaging(syncRunId);
+                    stagingRepository.swap();
+
+                    log.info("유기동물 테이블 교체 완료 (API {}건 + 보존 {}건, 이전 {}건, 변경 기록 {}건, 보관 {}건)",
+                            loaded, kept, live, recorded, archived);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * Step 정의 - 'finishRefreshStep'
+     * 교체된 테이블 기준으로 목록 조회 캐시 무효화, 집계 건수 재계산, 썸네일 정리.
+     * 모두 현재 테이블 상태로 다시 계산하는 작업이므로 실패 후 재시작해도 그대로 다시 실행하면 된다.
+     */
+    @Bean
+    public Step finishRefreshStep() {
+        return new StepBuilder("finishRefreshStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    animalQueryCache.invalidateAll();
+                    facetService.rebuild();
+                    try {
+                        imageService.collectGarbage();
+                    } catch (RuntimeException e) {
+                        // 교체는 이미 끝났으므로 Step을 실패시키지 않음 (다음 정리 때 다시 시도)
+                        log.warn("썸네일 정리 실패: {}", e.toString());
+                    }
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * Job 정의 - 'fullRefreshAnimalJob'
+     * prepareStagingStep → loadStagingStep → swapStagingStep → finishRefreshStep 순서로 실행
+     */
+    @Bean
+    public Job fullRefreshAnimalJob() {
+        return new JobBuilder("fullRefreshAnimalJob", jobRepository)
+                .start(prepareStagingStep())
+                .next(loadStagingStep())
+                .next(swapStagingStep())
+                .next(finishRefreshStep())
+                .listener(jobListener) // 성공 시 워터마크 갱신
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.playdata.petevent.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 유기동물 이미지(popfile1/popfile2) 썸네일 캐시 관련 설정값.
+ * application.yml의 animal.image 하위 항목과 매핑된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "animal.image")
+public class AnimalImageProperties {
+
+    // 동기화 후 썸네일 생성 여부 (false이면 이미지 조회 시 원본 URL로만 안내)
+    private boolean enabled = true;
+
+    // 썸네일 저장 디렉터리
+    private String cacheDir = "data/thumbnails";
+
+    // 썸네일 저장 용량 상한 (넘으면 가장 오래 조회되지 않은 썸네일부터 삭제)
+    private DataSize maxCacheSize = DataSize.ofGigabytes(1);
+
+    // 썸네일 크기 (가운데를 기준으로 잘라서 이 크기로 맞춤)
+    private int width = 300;
+    private int height = 300;
+
+    // 썸네일 JPEG 품질 (0 ~ 1)
+    private float jpegQuality = 0.85f;
+
+    // 동시에 내려받을 최대 이미지 수 (원본 서버에 과도한 동시 요청을 보내지 않도록 제한)
+    private int downloadConcurrency = 4;
+
+    // 한 번에 조회해서 내려받는 이미지 수
+    private int batchSize = 200;
+
+    // 원본 이미지 다운로드 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(20);
+
+    // 원본 이미지 최대 크기/픽셀 수 (넘으면 썸네일을 만들지 않음)
+    private DataSize maxSourceSize = DataSize.ofMegabytes(10);
+    private long maxSourcePixels = 40_000_000L;
+
+    // 썸네일 응답의 브라우저/CDN 캐시 기간 (썸네일 주소는 내용 해시라서 바뀌지 않음)
+    private Duration cacheMaxAge = Duration.ofDays(365);
+}
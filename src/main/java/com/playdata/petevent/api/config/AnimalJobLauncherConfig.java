@@ -0,0 +1,43 @@
+package com.playdata.petevent.api.config;
+
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 유기동물 동기화 Job을 비동기로 실행하기 위한 설정.
+ * 기본 jobLauncher는 Job이 끝날 때까지 호출 스레드(HTTP 요청, 스케줄러)를 붙잡고 있으므로,
+ * 별도 스레드 풀에서 실행하고 JobExecution을 바로 반환하는 JobLauncher를 등록한다.
+ */
+@Configuration
+public class AnimalJobLauncherConfig {
+
+    /**
+     * Job 실행용 스레드 풀.
+     * 동기화 Job은 AnimalSyncService에서 한 번에 하나만 실행되도록 막으므로 스레드는 하나면 충분.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor animalJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("animal-job-");
+        return executor;
+    }
+
+    /**
+     * JobExecution을 생성(STARTING)한 직후 반환하는 JobLauncher.
+     * 진행 상황은 JobExecution id로 조회한다. (GET /api/animals/sync-api/{jobExecutionId})
+     */
+    @Bean
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository, ThreadPoolTaskExecutor animalJobExecutor) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(animalJobExecutor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+}
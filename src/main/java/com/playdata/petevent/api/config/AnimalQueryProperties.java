@@ -0,0 +1,22 @@
+package com.playdata.petevent.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유기동물 조회 API 관련 설정값.
+ * application.yml의 animal.query 하위 항목과 매핑된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "animal.query")
+public class AnimalQueryProperties {
+
+    // 목록 조회 결과 캐시 최대 항목 수
+    private long cacheMaxSize = 10_000;
+
+    // 캐시 항목 유지 시간 (동기화 후 무효화가 기본이며, 이 값은 안전장치)
+    private Duration cacheExpireAfterWrite = Duration.ofHours(6);
+}
@@ -0,0 +1,33 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.repository.AnimalSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 유기동물 전문 검색용 FULLTEXT(ngram) 인덱스를 생성한다.
+ * ddl-auto(update)는 FULLTEXT 인덱스를 만들지 않으므로 테이블 생성 이후 별도로 실행한다.
+ * 생성에 실패해도(권한 부족 등) 애플리케이션은 시작하고, 검색 API만 사용할 수 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalSearchIndexInitializer implements ApplicationRunner {
+
+    private final AnimalSearchRepository searchRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (searchRepository.ensureFullTextIndex()) {
+                log.info("전문 검색 인덱스 생성 완료: {}", AnimalSearchRepository.FULLTEXT_INDEX);
+            }
+        } catch (DataAccessException e) {
+            log.error("전문 검색 인덱스 생성 실패 - 검색 API를 사용할 수 없음", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.entity.SyncSkipEntity;
+import com.playdata.petevent.api.repository.SyncSkipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * [Spring Batch] SkipListener 구현 클래스.
+ * apiToDbStep에서 skip된 데이터를 animal_sync_skip 테이블에 기록해 나중에 확인할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalSkipListener implements SkipListener<AnimalsEntity, AnimalsEntity> {
+
+    // 예외 메시지 최대 저장 길이 (error_message 컬럼 길이)
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final SyncSkipRepository syncSkipRepository;
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        record("READ", null, t);
+    }
+
+    @Override
+    public void onSkipInProcess(AnimalsEntity item, Throwable t) {
+        record("PROCESS", item, t);
+    }
+
+    @Override
+    public void onSkipInWrite(AnimalsEntity item, Throwable t) {
+        record("WRITE", item, t);
+    }
+
+    private void record(String phase, AnimalsEntity item, Throwable t) {
+        log.warn("동기화 데이터 skip ({}): {} - {}", phase, item == null ? null : item.getDesertionNo(), t.toString());
+
+        StepContext context = StepSynchronizationManager.getContext();
+        StepExecution stepExecution = context == null ? null : context.getStepExecution();
+
+        String message = t.getMessage();
+        if (message != null && message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+
+        syncSkipRepository.save(SyncSkipEntity.builder()
+                .jobExecutionId(stepExecution == null ? null : stepExecution.getJobExecutionId())
+                .stepName(stepExecution == null ? null : stepExecution.getStepName())
+                .phase(phase)
+                .desertionNo(item == null || item.getDesertionNo() == null || item.getDesertionNo().isBlank()
+                        ? null : item.getDesertionNo())
+                .errorType(t.getClass().getName())
+                .errorMessage(message)
+                .item(item == null ? null : item.toString())
+                .build());
+    }
+}
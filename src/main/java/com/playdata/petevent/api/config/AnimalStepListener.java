@@ -1,14 +1,17 @@
 package com.playdata.petevent.api.config;
 
-import com.playdata.petevent.api.batch.writer.AnimalCustomItemWriter;
-import com.playdata.petevent.api.entity.AnimalsEntity;
-import com.playdata.petevent.api.repository.AnimalsRepository;
-
-import java.util.List;
-import java.util.Set;
+import com.playdata.petevent.api.batch.SyncMode;
+import com.playdata.petevent.api.cache.AnimalQueryCache;
+import com.playdata.petevent.api.config.AnimalSyncProperties.DepartedMode;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import com.playdata.petevent.api.service.AnimalFacetService;
+import com.playdata.petevent.api.service.AnimalImageService;
+import com.playdata.petevent.api.service.AnimalReconciliationService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
@@ -21,24 +24,44 @@ import org.springframework.stereotype.Component;
  * 본 클래스에서는 Step 실행 "후"(`afterStep`)에 아래의 동작을 수행:
 
  * 주요 기능:
- * 1. 이번 Step에서 API로부터 수집한 모든 유기번호(desertionNo)를 가져온다.
- * 2. DB에 있는 모든 데이터를 조회한다.
- * 3. 다음 조건을 모두 만족하는 데이터는 DB에서 삭제한다:
- *    - 이번 API 호출 결과에 포함되지 않았고
+ * 1. Writer는 API로부터 수집한 모든 데이터에 이번 실행 번호(last_sync_run = JobInstance id)를 기록한다.
+ * 2. Step이 정상 종료되면 다음 조건을 모두 만족하는 데이터를 DELETE 한 번으로 삭제한다:
+ *    - 이번 실행 번호가 기록되지 않았고 (= 이번 API 호출 결과에 포함되지 않았고)
  *    - 해당 동물의 processState가 "보호중"이 아닐 경우
 
  *    더 이상 보호소에서 관리하고 있지 않은 유기동물이며,
  *    "보호중"도 아닌 경우는 데이터에서 제거하여 정합성을 유지한다.
+ *    보관 모드(animal.sync.departed-mode=archive)이면 같은 트랜잭션에서 보관 테이블로 옮긴 뒤 삭제한다.
+ *    삭제된 유기동물의 이미지 기록과, 더 이상 어떤 이미지도 가리키지 않는 썸네일 파일도 함께 정리한다.
+
+ * Step이 실패했거나 한 건도 쓰지 않았다면(API 장애 등) 정상 데이터까지 지워질 수 있으므로 삭제하지 않는다.
+ * DELTA 동기화는 일부 기간의 데이터만 받으므로 삭제하지 않는다. (FULL 동기화에서만 정리)
+
+ * 3. Step 결과와 관계없이(실패해도 커밋된 Chunk는 반영되어 있음) 목록 조회 캐시를 비우고,
+ *    Writer/삭제 처리가 갱신한 집계 건수를 메모리로 다시 불러온다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AnimalStepListener implements StepExecutionListener {
 
-    // DB 접근용 JPA Repository (전체 조회 및 삭제를 수행)
-    private final AnimalsRepository animalsRepository;
+    // API에 없어진 데이터 정리 서비스
+    private final AnimalReconciliationService reconciliationService;
+
+    // 목록 조회 결과 캐시
+    private final AnimalQueryCache animalQueryCache;
+
+    // 집계 건수 조회 서비스
+    private final AnimalFacetService facetService;
 
-    // 이번 Step 동안 API로부터 수집한 유기번호 리스트를 담고 있는 Writer
-    private final AnimalCustomItemWriter itemWriter;
+    // 삭제된 유기동물의 썸네일 정리
+    private final AnimalImageService imageService;
+
+    // 삭제 건수, 삭제 처리 시간 지표
+    private final AnimalSyncMetrics metrics;
+
+    // 없어진 데이터 처리 방식 (삭제/보관)
+    private final AnimalSyncProperties syncProperties;
 
     /**
      * Step 실행 이후에 호출되는 메서드.
@@ -46,25 +69,57 @@ public class AnimalStepListener implements StepExecutionListener {
      */
     @Override
     public ExitStatus afterStep(StepExecution stepExecution) {
+        try {
+            removeDeparted(stepExecution);
+        } finally {
+            // 삭제까지 끝난 뒤 비워야 삭제 전 결과가 다시 캐시되지 않음
+            animalQueryCache.invalidateAll();
+            facetService.refreshSnapshot();
+        }
 
-        // Step 실행 중에 수집된 모든 유기번호 (API 응답 기준)
-        Set<String> desertionNoFromApi = itemWriter.getDesertionNoFromApi();
-
-        // 현재 DB에 저장되어 있는 모든 유기동물 데이터를 조회
-        List<AnimalsEntity> allInDb = animalsRepository.findAll();
+        // 특별한 종료 상태는 없음 (null 반환 → 기본 처리)
+        return null;
+    }
 
-        // 전체 DB 데이터를 순회하면서 삭제 조건에 해당하는지 검사
-        for (AnimalsEntity entity : allInDb) {
+    private void removeDeparted(StepExecution stepExecution) {
 
-            // API 결과에 포함되지 않은 유기번호
-            boolean notInApi = !desertionNoFromApi.contains(entity.getDesertionNo());
+        // DELTA 동기화에서는 받지 않은 데이터가 정상이므로 정리하지 않음
+        String syncMode = stepExecution.getJobParameters().getString("syncMode");
+        if (SyncMode.DELTA.name().equals(syncMode)) {
+            return;
+        }
 
-            if (notInApi) {
-                animalsRepository.delete(entity);
-            }
+        // 일부 페이지만 읽은 상태에서 삭제하면 읽지 못한 데이터까지 사라지므로 정상 종료된 경우에만 정리
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("Step이 정상 종료되지 않아 삭제 처리를 건너뜀 (status={})", stepExecution.getStatus());
+            return;
+        }
+        if (stepExecution.getWriteCount() == 0) {
+            log.warn("API에서 수집한 데이터가 없어 삭제 처리를 건너뜀");
+            return;
         }
 
-        // 특별한 종료 상태는 없음 (null 반환 → 기본 처리)
-        return null;
+        long startedAt = System.nanoTime();
+        int deleted;
+        try {
+            // 파티션 추가(DDL)는 자동 커밋되므로 삭제 트랜잭션 전에 실행
+            reconciliationService.prepareArchive();
+            deleted = reconciliationService.removeDeparted(
+                    stepExecution.getJobExecution().getJobInstance().getInstanceId());
+        } catch (RuntimeException e) {
+            metrics.recordReconciliation(System.nanoTime() - startedAt, false);
+            throw e;
+        }
+        metrics.recordReconciliation(System.nanoTime() - startedAt, true);
+        metrics.recordDeleted(deleted);
+        log.info("API에 없어진 유기동물 데이터 {}건 {}", deleted,
+                syncProperties.getDepartedMode() == DepartedMode.ARCHIVE ? "보관" : "삭제");
+
+        // 썸네일 정리에 실패해도 동기화 결과에는 영향을 주지 않음 (다음 정리 때 다시 시도)
+        try {
+            imageService.collectGarbage();
+        } catch (RuntimeException e) {
+            log.warn("썸네일 정리 실패: {}", e.toString());
+        }
     }
-}
\ No newline at end of file
+}
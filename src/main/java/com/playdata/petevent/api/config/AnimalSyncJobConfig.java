@@ -1,17 +1,30 @@
 package com.playdata.petevent.api.config;
 
+import com.playdata.petevent.api.batch.partitioner.AnimalSyncPartitioner;
 import com.playdata.petevent.api.batch.processor.AnimalProcessor;
+import com.playdata.petevent.api.batch.processor.DesertionNoTracker;
+import com.playdata.petevent.api.batch.processor.InvalidAnimalException;
 import com.playdata.petevent.api.batch.reader.AnimalApiItemReader;
 import com.playdata.petevent.api.batch.writer.AnimalCustomItemWriter;
+import com.playdata.petevent.api.batch.writer.AnimalJdbcItemWriter;
+import com.playdata.petevent.api.config.AnimalSyncProperties.WriterMode;
 import com.playdata.petevent.api.entity.AnimalsEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -24,8 +37,17 @@ import org.springframework.transaction.PlatformTransactionManager;
  * 구성 요소:
  * - AnimalApiItemReader: 외부 API에서 동물 데이터를 읽어옴
  * - AnimalProcessor: 읽은 데이터를 가공 (현재는 PassThrough)
- * - AnimalCustomItemWriter: DB에 insert 또는 update
- * - AnimalStepListener: 스텝 실행 후 정리 작업 (불필요한 데이터 삭제)
+ * - AnimalCustomItemWriter: DB에 insert 또는 update (animal.sync.writer=jpa, 기본값)
+ * - AnimalJdbcItemWriter: JDBC 배치 upsert (animal.sync.writer=jdbc)
+ * - AnimalStepListener: 스텝 실행 후 정리 작업 (불필요한 데이터 삭제, FULL 동기화만)
+ * - AnimalSyncJobListener: Job 성공 시 동기화 워터마크 갱신 (DELTA 동기화 기준 시점)
+ * - AnimalSyncPartitioner: animal.sync.partitioned=true일 때 보호 상태 × 시도 코드로 작업을 나눔
+ * - AnimalSkipListener: skip된 데이터를 animal_sync_skip 테이블에 기록
+
+ * 장애 대응:
+ * - Reader는 Chunk 커밋마다 읽기 위치를 저장하므로, 실패한 Job을 재시작하면 마지막 커밋 지점부터 이어서 처리
+ * - 일시적인 DB 오류(락 대기, 데드락 등)는 Chunk 단위로 재시도 (API 호출 오류는 AnimalApiClient에서 재시도)
+ * - 저장할 수 없는 데이터(유기번호 없음, 제약 조건 위반)는 skip 후 기록하고 계속 진행
 
  * 이 구성은 Spring Batch에서 가장 흔한 형태인 Chunk 기반 처리 모델을 사용합니다.
  */
@@ -33,6 +55,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class AnimalSyncJobConfig {
 
+    // 파티션 관리 Step 이름 (진행 건수 집계 시 워커 Step과 중복 집계하지 않도록 사용)
+    public static final String PARTITION_STEP_NAME = "apiToDbPartitionStep";
+
     // Spring Batch의 내부 실행 상태 저장소
     private final JobRepository jobRepository;
 
@@ -48,9 +73,33 @@ public class AnimalSyncJobConfig {
     // DB에 데이터를 저장/업데이트하는 ItemWriter
     private final AnimalCustomItemWriter writer;
 
+    // JDBC 배치 upsert 방식의 ItemWriter
+    private final AnimalJdbcItemWriter jdbcWriter;
+
+    // 동기화 배치 설정 (Writer 선택 등)
+    private final AnimalSyncProperties syncProperties;
+
     // Step 종료 후 불필요한 데이터를 삭제하는 Listener
     private final AnimalStepListener listener;
 
+    // Job 성공 시 동기화 워터마크를 갱신하는 Listener
+    private final AnimalSyncJobListener jobListener;
+
+    // 보호 상태 × 시도 코드로 파티션을 나누는 Partitioner
+    private final AnimalSyncPartitioner partitioner;
+
+    // 파티션 워커 Step을 실행하는 스레드 풀
+    private final ThreadPoolTaskExecutor animalPartitionExecutor;
+
+    // skip된 데이터를 기록하는 Listener
+    private final AnimalSkipListener skipListener;
+
+    // 이번 Step에서 처리한 유기번호 (StepScope, Chunk 커밋 시점을 알기 위해 Listener로도 등록)
+    private final DesertionNoTracker desertionNoTracker;
+
+    // 동기화 지표 기록용 Listener
+    private final AnimalSyncMetricsListener metricsListener;
+
     /**
      * Step 정의 - 'apiToDbStep'
      * - 기능: API에서 데이터를 읽고, 가공하고, DB에 저장
@@ -58,29 +107,88 @@ public class AnimalSyncJobConfig {
      */
     @Bean
     public Step apiToDbStep() {
-        return new StepBuilder("apiToDbStep", jobRepository)
+        return chunkStep("apiToDbStep")
+                // Step 실행 후 API에 없어진 데이터 삭제 처리
+                .listener(listener)
+                .build();
+    }
+
+    /**
+     * Step 정의 - 'apiToDbPartitionStep' (animal.sync.partitioned=true일 때 사용)
+     * - AnimalSyncPartitioner가 나눈 파티션마다 apiToDbWorkerStep을 animalPartitionExecutor에서 동시에 실행
+     * - 워커 Step의 읽기/쓰기 건수와 상태가 이 Step으로 합산되므로,
+     *   모든 파티션이 성공한 경우에만 Step 종료 후 한 번의 삭제 처리가 실행됨
+     */
+    @Bean
+    public Step apiToDbPartitionStep() {
+        return new StepBuilder(PARTITION_STEP_NAME, jobRepository)
+                .partitioner("apiToDbWorkerStep", partitioner)
+                .step(apiToDbWorkerStep())
+                .taskExecutor(animalPartitionExecutor)
+                // 모든 파티션이 끝난 뒤 API에 없어진 데이터 삭제 처리
+                .listener(listener)
+                .build();
+    }
+
+    /**
+     * Step 정의 - 'apiToDbWorkerStep'
+     * - 파티션 하나(보호 상태 + 시도 코드)를 처리하는 워커 Step
+     * - Reader는 StepScope이므로 파티션마다 별도 인스턴스(읽기 위치)를 가지며,
+     *   Writer는 상태를 가지지 않으므로 여러 워커 스레드에서 공유해도 안전함
+     */
+    @Bean
+    public Step apiToDbWorkerStep() {
+        return chunkStep("apiToDbWorkerStep").build();
+    }
+
+    // apiToDbStep과 apiToDbWorkerStep이 공유하는 Chunk 처리 구성
+    private SimpleStepBuilder<AnimalsEntity, AnimalsEntity> chunkStep(String name) {
+        return new StepBuilder(name, jobRepository)
                 // <Input 타입, Output 타입> 설정
                 .<AnimalsEntity, AnimalsEntity>chunk(300, transactionManager)
                 // Reader: API에서 읽기
                 .reader(reader)
                 // Processor: 가공 (현재는 그대로 반환)
                 .processor(processor)
-                // Writer: DB에 저장 또는 업데이트
-                .writer(writer)
-                // Step 실행 후 API에 없어진 데이터 삭제 처리
-                .listener(listener)
-                .build();
+                // Writer: DB에 저장 또는 업데이트 (설정에 따라 JPA / JDBC 선택)
+                .writer(syncProperties.getWriter() == WriterMode.JDBC ? jdbcWriter : writer)
+                // 장애 허용 설정
+                .faultTolerant()
+                // 일시적인 DB 오류는 백오프 후 재시도
+                .retry(TransientDataAccessException.class)
+                .retryLimit(syncProperties.getRetryLimit())
+                .backOffPolicy(retryBackOffPolicy())
+                // 저장할 수 없는 데이터는 skip (animal_sync_skip에 기록)
+                .skip(InvalidAnimalException.class)
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(syncProperties.getSkipLimit())
+                .listener(skipListener)
+                .listener((ChunkListener) desertionNoTracker)
+                // 지표: Chunk 커밋 시간, 읽은 건수
+                .listener((ChunkListener) metricsListener)
+                .listener((ItemWriteListener<AnimalsEntity>) metricsListener)
+                .listener((StepExecutionListener) metricsListener);
+    }
+
+    // DB 재시도 간격: 200ms부터 2배씩, 최대 2초
+    private ExponentialBackOffPolicy retryBackOffPolicy() {
+        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(200);
+        backOffPolicy.setMaxInterval(2000);
+        return backOffPolicy;
     }
 
     /**
      * Job 정의 - 'syncAnimalJob'
-     * - 하나의 Step(apiToDbStep)을 순차적으로 실행하는 단일 Step Job 구성
+     * - 하나의 Step(apiToDbStep, 또는 partitioned 설정 시 apiToDbPartitionStep)을 실행하는 단일 Step Job 구성
      * - Job 실행 시 자동으로 Step이 시작됨
+     * - JobParameters: syncMode(FULL/DELTA), bgnde/endde(DELTA 검색 기간)
      */
     @Bean
     public Job syncAnimalJob() {
         return new JobBuilder("syncAnimalJob", jobRepository)
-                .start(apiToDbStep()) // 시작 Step 지정
+                .start(syncProperties.isPartitioned() ? apiToDbPartitionStep() : apiToDbStep()) // 시작 Step 지정
+                .listener(jobListener) // 성공 시 워터마크 갱신
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.service.AnimalImageService;
+import com.playdata.petevent.api.service.SyncWatermarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * [Spring Batch] JobExecutionListener 구현 클래스.
+ * syncAnimalJob이 정상 종료되면(FULL/DELTA 모두) 동기화 워터마크를 Job 시작 날짜로 갱신한다.
+ * 다음 DELTA 동기화는 이 워터마크를 기준으로 검색 기간을 정한다.
+ * 보관 기간(animal.feed.retention)이 지난 변경 기록도 이때 정리하고,
+ * 새로 들어오거나 바뀐 이미지의 썸네일 생성을 백그라운드에서 시작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalSyncJobListener implements JobExecutionListener {
+
+    private final SyncWatermarkService watermarkService;
+
+    private final AnimalChangeRepository changeRepository;
+
+    private final AnimalFeedProperties feedProperties;
+
+    private final AnimalImageService imageService;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        watermarkService.advance(jobExecution);
+        log.info("동기화 워터마크 갱신: {}", jobExecution.getStartTime().toLocalDate());
+
+        int purged = changeRepository.purgeOlderThan(feedProperties.getRetention());
+        if (purged > 0) {
+            log.info("보관 기간이 지난 변경 기록 {}건 삭제", purged);
+        }
+
+        imageService.refreshAsync();
+    }
+}
@@ -0,0 +1,56 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import com.playdata.petevent.api.metrics.AnimalSyncMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+/**
+ * [Spring Batch] 동기화 Chunk Step의 지표를 AnimalSyncMetrics에 기록하는 리스너.
+
+ * - Chunk 커밋 시간: afterWrite(Writer 종료, 트랜잭션 안) → afterChunk(커밋 완료 후) 사이의 시간
+ *   파티션 Step은 워커 스레드마다 Chunk를 처리하므로 시작 시각을 스레드별로 보관한다.
+ * - 읽은 건수: Step 종료 시 StepExecution의 readCount
+ *   (파티션 사용 시 워커 Step에만 등록해서 관리 Step의 합산 건수가 두 번 세어지지 않게 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnimalSyncMetricsListener implements ChunkListener, ItemWriteListener<AnimalsEntity>, StepExecutionListener {
+
+    private final AnimalSyncMetrics metrics;
+
+    // Writer가 끝난 시각 (System.nanoTime)
+    private final ThreadLocal<Long> writeEndedAt = new ThreadLocal<>();
+
+    @Override
+    public void afterWrite(Chunk<? extends AnimalsEntity> items) {
+        writeEndedAt.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Long endedAt = writeEndedAt.get();
+        if (endedAt != null) {
+            metrics.recordChunkCommit(System.nanoTime() - endedAt);
+            writeEndedAt.remove();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        writeEndedAt.remove();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        metrics.recordRead(stepExecution.getReadCount());
+        return null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.playdata.petevent.api.config;
+
+import com.playdata.petevent.api.batch.SyncMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유기동물 동기화 배치(syncAnimalJob) 관련 설정값.
+ * application.yml의 animal.sync 하위 항목과 매핑된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "animal.sync")
+public class AnimalSyncProperties {
+
+    // apiToDbStep에서 사용할 Writer (기본: JPA)
+    private WriterMode writer = WriterMode.JPA;
+
+    // 하루 한 번 실행하는 전체 동기화 방식 (FULL: upsert + 삭제 / REFRESH: 스테이징 테이블 교체)
+    private SyncMode fullMode = SyncMode.FULL;
+
+    // REFRESH: 스테이징 적재 Step의 Chunk 크기
+    private int stagingChunkSize = 2000;
+
+    // REFRESH: 스테이징 데이터 수가 기존 데이터 수 × 이 비율보다 적으면 교체하지 않음
+    private double refreshMinRatio = 0.5;
+
+    // DELTA 동기화 검색 시작일을 워터마크보다 앞당기는 기간 (API 반영이 늦은 데이터 대비)
+    private Duration deltaLookback = Duration.ofDays(2);
+
+    // 전체 동기화(FULL/REFRESH)에서 API에 없어진 데이터 처리 방식 (DELETE: 삭제 / ARCHIVE: 보관 테이블로 이동)
+    private DepartedMode departedMode = DepartedMode.DELETE;
+
+    // 일시적인 DB 오류 시 Chunk당 최대 시도 횟수
+    private int retryLimit = 3;
+
+    // Step당 최대 skip 허용 건수 (초과하면 Step 실패)
+    private int skipLimit = 100;
+
+    // 실패한 Job을 다음 실행 때 재시작하는 최대 횟수 (초과하면 새로 실행)
+    private int maxRestarts = 3;
+
+    // 실행 중으로 기록되어 있지만 이 시간 동안 Step 갱신(Chunk 커밋)이 없으면 비정상 종료된 실행으로 보고 실패 처리
+    private Duration staleAfter = Duration.ofHours(3);
+
+    // true이면 apiToDbStep 대신 보호 상태 × 시도 코드로 나눈 파티션 Step(apiToDbPartitionStep)으로 동기화
+    private boolean partitioned = false;
+
+    // 파티션 Step을 동시에 실행할 워커 스레드 수
+    private int partitionConcurrency = 4;
+
+    // 파티션을 나눌 시도 코드(upr_cd) 목록
+    // 누락된 시도의 데이터는 FULL 동기화 정리 단계에서 삭제되므로 전국 시도 코드를 모두 포함해야 한다.
+    private List<String> regionCodes = new ArrayList<>();
+
+    /**
+     * apiToDbStep의 쓰기 방식.
+     * - JPA: AnimalCustomItemWriter (엔티티 조회 후 변경 감지로 INSERT/UPDATE)
+     * - JDBC: AnimalJdbcItemWriter (INSERT ... ON DUPLICATE KEY UPDATE 배치)
+     */
+    public enum WriterMode {
+        JPA,
+        JDBC
+    }
+
+    /**
+     * API에 없어진(보호 종료 등) 데이터의 처리 방식.
+     * - DELETE: abandoned_animals에서 삭제 (이력이 남지 않음)
+     * - ARCHIVE: 같은 트랜잭션에서 abandoned_animals_archive에 복사한 뒤 삭제 (GET /api/animals/archive로 조회)
+     */
+    public enum DepartedMode {
+        DELETE,
+        ARCHIVE
+    }
+}
@@ -1,41 +1,210 @@
 package com.playdata.petevent.api.controller;
 
+import com.playdata.petevent.api.batch.SyncMode;
+import com.playdata.petevent.api.config.AnimalImageProperties;
+import com.playdata.petevent.api.dto.AnimalArchiveCondition;
+import com.playdata.petevent.api.dto.AnimalArchivePageResponse;
+import com.playdata.petevent.api.dto.AnimalChangePageResponse;
+import com.playdata.petevent.api.dto.AnimalPageResponse;
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.CacheStatsResponse;
+import com.playdata.petevent.api.dto.FacetCountsResponse;
+import com.playdata.petevent.api.dto.SyncStatusResponse;
+import com.playdata.petevent.api.service.AnimalArchiveService;
+import com.playdata.petevent.api.service.AnimalChangeFeedService;
+import com.playdata.petevent.api.service.AnimalFacetService;
+import com.playdata.petevent.api.service.AnimalImageService;
+import com.playdata.petevent.api.service.AnimalQueryService;
+import com.playdata.petevent.api.service.AnimalSyncService;
+import com.playdata.petevent.api.service.SyncAlreadyRunningException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 동물 배치 Job 실행용 REST API Controller.
  *
  * POST /api/animals/sync-api 호출 시 수동으로 배치 Job 실행.
- * 배치 중복 실행 방지를 위해 현재시간 기반 JobParameters 전달.
+ * - mode=FULL (기본값): 전체 동기화
+ * - mode=DELTA: 마지막 동기화 이후 데이터만 동기화
+ * - mode=REFRESH: 스테이징 테이블에 전체 적재 후 테이블 교체
+ * Job은 별도 스레드에서 실행되고, 응답으로 JobExecution id를 바로 반환 (202 Accepted).
+ * 이미 동기화가 실행 중이면 새로 실행하지 않고 실행 중인 Job 정보를 반환 (409 Conflict).
+ *
+ * GET /api/animals/sync-api/{jobExecutionId} 호출 시 실행 상태와 진행 건수 조회.
+ *
+ * GET /api/animals 호출 시 유기동물 목록 조회 (AnimalSearchCondition 참고).
+ * - 공고 시작일 최신순, 페이지 크기 기본 20건
+ * - 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달 (잘못된 cursor는 400 Bad Request)
+ * - 결과는 동기화가 끝날 때까지 캐시되며, GET /api/animals/cache-stats 로 캐시 통계 조회
+ *
+ * GET /api/animals/search?q=흰색 말티즈 호출 시 전문 검색 (관련도 순, 목록 조회 조건 함께 사용 가능).
+ *
+ * GET /api/animals/facets 호출 시 축종/성별/중성화/보호 상태/지자체/공고 주차별 건수 조회
+ * (동기화 때 갱신된 값을 메모리에서 바로 반환).
+ *
+ * 변경 피드 (동기화로 추가/변경/삭제된 유기동물):
+ * - GET /api/animals/changes?after={순번}&limit={건수}: after 이후 변경 기록 조회, 응답의 nextCursor를 다음 after로 사용
+ * - GET /api/animals/changes/stream?after={순번}: SSE로 계속 수신 (재연결 시 Last-Event-ID 헤더 우선, 구독자 수 초과 시 503)
+ *
+ * GET /api/animals/archive 호출 시 API에서 사라져 보관된 유기동물 조회 (AnimalArchiveCondition 참고).
+ * - animal.sync.departed-mode=archive 일 때 전체 동기화가 삭제 대신 보관 테이블로 옮긴 데이터
+ * - 보관 시각 최신순, 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달 (잘못된 cursor는 400 Bad Request)
+ *
+ * 이미지 (동기화 후 popfile1/popfile2로 만든 썸네일):
+ * - GET /api/animals/{desertionNo}/images/{1|2}: 썸네일 주소로 이동 (302), 아직 썸네일이 없으면 원본 URL로 이동
+ * - GET /api/animals/images/{hash}: 썸네일 파일 (주소가 내용 해시이므로 immutable 캐시, Tomcat sendfile로 전송)
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/animals")
 public class AnimalsController {
 
-    private final JobLauncher jobLauncher;
-    private final Job syncAnimalJob;
+    private final AnimalSyncService animalSyncService;
 
-    @PostMapping("/sync-api")
-    public String runApiSyncJob() {
+    private final AnimalQueryService animalQueryService;
+
+    private final AnimalFacetService animalFacetService;
+
+    private final AnimalChangeFeedService animalChangeFeedService;
+
+    private final AnimalImageService animalImageService;
+
+    private final AnimalImageProperties imageProperties;
+
+    private final AnimalArchiveService animalArchiveService;
+
+    @GetMapping
+    public ResponseEntity<AnimalPageResponse> getAnimals(@ModelAttribute AnimalSearchCondition condition) {
+        return ResponseEntity.ok(animalQueryService.search(condition));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<AnimalPageResponse> searchAnimals(@RequestParam("q") String keyword,
+                                                            @ModelAttribute AnimalSearchCondition condition) {
+        return ResponseEntity.ok(animalQueryService.searchText(keyword, condition));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<FacetCountsResponse> getFacets() {
+        return ResponseEntity.ok(animalFacetService.getFacets());
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<AnimalArchivePageResponse> getArchive(@ModelAttribute AnimalArchiveCondition condition) {
+        return ResponseEntity.ok(animalArchiveService.search(condition));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<AnimalChangePageResponse> getChanges(@RequestParam(defaultValue = "0") long after,
+                                                               @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(animalChangeFeedService.getChanges(after, limit));
+    }
+
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(defaultValue = "0") long after,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("timestamp", System.currentTimeMillis())
-                    .toJobParameters();
+            return animalChangeFeedService.subscribe(lastEventId != null ? lastEventId : after);
+        } catch (TaskRejectedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "변경 피드 구독자 수 초과");
+        }
+    }
+
+    @GetMapping("/{desertionNo}/images/{slot}")
+    public ResponseEntity<Void> getImage(@PathVariable String desertionNo, @PathVariable int slot) {
+        // 썸네일이 만들어지면 이동할 주소가 바뀌므로 짧게만 캐시
+        return animalImageService.resolveImageLocation(desertionNo, slot)
+                .map(location -> ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(location))
+                        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)))
+                        .<Void>build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/images/{hash}")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable String hash, WebRequest webRequest,
+                                                 HttpServletRequest request) throws IOException {
+        Optional<Path> found = animalImageService.findThumbnail(hash);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(hash)) {
+            return null; // 304 Not Modified
+        }
+
+        Path path = found.get();
+        long size = Files.size(path);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(hash)
+                .cacheControl(CacheControl.maxAge(imageProperties.getCacheMaxAge()).cachePublic().immutable())
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(size);
+
+        // Tomcat이 sendfile을 지원하면 본문을 쓰지 않고 파일 경로만 넘겨서 커널이 바로 전송 (zero-copy)
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", path.toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", size);
+            return response.build();
+        }
+        return response.body(new FileSystemResource(path));
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(animalQueryService.cacheStats());
+    }
 
-            JobExecution execution = jobLauncher.run(syncAnimalJob, jobParameters);
-            return "배치 실행 완료 - 상태: " + execution.getStatus();
+    @PostMapping("/sync-api")
+    public ResponseEntity<SyncStatusResponse> runApiSyncJob(@RequestParam(defaultValue = "FULL") SyncMode mode)
+            throws JobExecutionException {
+        try {
+            JobExecution execution = animalSyncService.runSync(mode);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status(execution.getId()));
 
-        } catch (Exception e) {
-            return "배치 실행 실패: " + e.getMessage();
+        } catch (SyncAlreadyRunningException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(status(e.getRunningExecution().getId()));
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/sync-api/{jobExecutionId}")
+    public ResponseEntity<SyncStatusResponse> getSyncStatus(@PathVariable long jobExecutionId) {
+        return ResponseEntity.of(animalSyncService.getStatus(jobExecutionId));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private SyncStatusResponse status(long jobExecutionId) {
+        return animalSyncService.getStatus(jobExecutionId).orElse(null);
+    }
+}
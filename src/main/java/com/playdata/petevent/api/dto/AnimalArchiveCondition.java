@@ -0,0 +1,40 @@
+package com.playdata.petevent.api.dto;
+
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 보관된(API에서 사라진) 유기동물 조회 조건 (GET /api/animals/archive 쿼리 파라미터).
+ * 값이 없는(null 또는 빈 문자열) 조건은 적용하지 않는다.
+ *
+ * @param desertionNo  유기번호 (한 유기동물의 보관 이력 조회)
+ * @param upKindNm     축종 (예: 개, 고양이)
+ * @param kindNm       품종
+ * @param processState 보관 당시 보호 상태 (예: 종료(입양), 종료(반환))
+ * @param orgNm        관할 지자체
+ * @param archivedFrom 보관일 하한 (yyyy-MM-dd, 포함)
+ * @param archivedTo   보관일 상한 (yyyy-MM-dd, 포함)
+ * @param cursor       이전 응답의 nextCursor (첫 페이지는 생략)
+ * @param size         페이지 크기 (기본 20, 최대 100)
+ */
+public record AnimalArchiveCondition(
+        String desertionNo,
+        String upKindNm,
+        String kindNm,
+        String processState,
+        String orgNm,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate archivedFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate archivedTo,
+        String cursor,
+        Integer size) {
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 보정한다. (목록 조회와 같은 기준)
+     */
+    public int pageSize() {
+        if (size == null || size < 1) {
+            return AnimalSearchCondition.DEFAULT_SIZE;
+        }
+        return Math.min(size, AnimalSearchCondition.MAX_SIZE);
+    }
+}
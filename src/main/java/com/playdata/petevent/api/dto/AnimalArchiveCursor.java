@@ -0,0 +1,39 @@
+package com.playdata.petevent.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 보관 기록 keyset 페이지네이션 위치 (이전 페이지 마지막 행의 정렬 키).
+ * AnimalCursor와 같이 Base64(URL-safe) 문자열로 전달한다.
+ *
+ * @param archivedAt  마지막 행의 보관 시각
+ * @param desertionNo 마지막 행의 유기번호
+ */
+public record AnimalArchiveCursor(LocalDateTime archivedAt, String desertionNo) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        String raw = archivedAt.toString() + SEPARATOR + desertionNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 cursor
+     */
+    public static AnimalArchiveCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("잘못된 cursor: " + cursor);
+        }
+        try {
+            return new AnimalArchiveCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor: " + cursor);
+        }
+    }
+}
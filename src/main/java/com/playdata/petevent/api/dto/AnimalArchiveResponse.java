@@ -0,0 +1,27 @@
+package com.playdata.petevent.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 유기동물 응답 (목록 화면 컬럼 + 발생일, 최초 등록 시각, 보관 시각).
+ * processState는 API에서 사라지기 직전(보관 당시)의 보호 상태이다.
+ */
+public record AnimalArchiveResponse(
+        String desertionNo,
+        String upKindNm,
+        String kindNm,
+        String sexCd,
+        String neuterYn,
+        String age,
+        String weight,
+        String colorCd,
+        String happenDt,
+        String noticeSdt,
+        String noticeEdt,
+        String processState,
+        String popfile1,
+        String careNm,
+        String orgNm,
+        LocalDateTime createAt,
+        LocalDateTime archivedAt) {
+}
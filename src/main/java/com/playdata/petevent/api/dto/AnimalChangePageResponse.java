@@ -0,0 +1,14 @@
+package com.playdata.petevent.api.dto;
+
+import java.util.List;
+
+/**
+ * 유기동물 변경 기록 조회 결과.
+ *
+ * @param changes    after 이후의 변경 기록 (순번 순)
+ * @param nextCursor 다음 조회 시 after로 전달할 값 (새 기록이 없으면 요청한 after 그대로)
+ */
+public record AnimalChangePageResponse(
+        List<AnimalChangeResponse> changes,
+        long nextCursor) {
+}
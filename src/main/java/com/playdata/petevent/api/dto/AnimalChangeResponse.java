@@ -0,0 +1,23 @@
+package com.playdata.petevent.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유기동물 변경 기록 한 건.
+ *
+ * @param id            기록 순번 (다음 조회 시 after로 전달)
+ * @param desertionNo   유기번호
+ * @param changeType    INSERTED, UPDATED, DELETED
+ * @param changedFields 바뀐 필드 이름 (UPDATED만 해당, 알 수 없으면 null)
+ * @param syncRunId     동기화 실행 번호 (JobInstance id)
+ * @param createAt      기록 일시
+ */
+public record AnimalChangeResponse(
+        long id,
+        String desertionNo,
+        String changeType,
+        List<String> changedFields,
+        Long syncRunId,
+        LocalDateTime createAt) {
+}
@@ -0,0 +1,34 @@
+package com.playdata.petevent.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 위치 (이전 페이지 마지막 행의 정렬 키).
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달하며, 값의 형식은 외부에 노출하지 않는다.
+ *
+ * @param noticeSdt   마지막 행의 공고 시작일 (null 가능)
+ * @param desertionNo 마지막 행의 유기번호
+ */
+public record AnimalCursor(String noticeSdt, String desertionNo) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        String raw = (noticeSdt == null ? "" : noticeSdt) + SEPARATOR + desertionNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 cursor
+     */
+    public static AnimalCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("잘못된 cursor: " + cursor);
+        }
+        String noticeSdt = raw.substring(0, separator);
+        return new AnimalCursor(noticeSdt.isEmpty() ? null : noticeSdt, raw.substring(separator + 1));
+    }
+}
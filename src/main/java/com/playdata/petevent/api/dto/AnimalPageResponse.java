@@ -0,0 +1,14 @@
+package com.playdata.petevent.api.dto;
+
+import java.util.List;
+
+/**
+ * 유기동물 목록 한 페이지.
+ *
+ * @param items      조회 결과 (공고 시작일 최신순, 같으면 유기번호 역순)
+ * @param nextCursor 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)
+ */
+public record AnimalPageResponse(
+        List<AnimalSummaryResponse> items,
+        String nextCursor) {
+}
@@ -0,0 +1,79 @@
+package com.playdata.petevent.api.dto;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 유기동물 목록 조회 조건 (GET /api/animals 쿼리 파라미터).
+ * 값이 없는(null 또는 빈 문자열) 조건은 적용하지 않는다.
+ *
+ * @param upKindNm     축종 (예: 개, 고양이)
+ * @param kindNm       품종
+ * @param sexCd        성별 코드
+ * @param neuterYn     중성화 여부
+ * @param processState 보호 상태 (예: 보호중)
+ * @param orgNm        관할 지자체
+ * @param careNm       보호소 이름
+ * @param noticeFrom   공고 시작일 하한 (yyyy-MM-dd, 포함)
+ * @param noticeTo     공고 시작일 상한 (yyyy-MM-dd, 포함)
+ * @param noticeEndFrom 공고 종료일 하한 (yyyy-MM-dd, 포함)
+ * @param noticeEndTo   공고 종료일 상한 (yyyy-MM-dd, 포함, 예: 3일 안에 공고가 끝나는 동물)
+ * @param minWeightGrams 체중 하한 (그램, 포함)
+ * @param maxWeightGrams 체중 상한 (그램, 포함, 예: 5kg 미만이면 4999)
+ * @param bornFrom      출생 연도 하한 (포함)
+ * @param bornTo        출생 연도 상한 (포함)
+ * @param cursor       이전 응답의 nextCursor (첫 페이지는 생략)
+ * @param size         페이지 크기 (기본 20, 최대 100)
+ */
+public record AnimalSearchCondition(
+        String upKindNm,
+        String kindNm,
+        AnimalsEntity.SexCode sexCd,
+        AnimalsEntity.NeuterYn neuterYn,
+        String processState,
+        String orgNm,
+        String careNm,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate noticeFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate noticeTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate noticeEndFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate noticeEndTo,
+        Integer minWeightGrams,
+        Integer maxWeightGrams,
+        Integer bornFrom,
+        Integer bornTo,
+        String cursor,
+        Integer size) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 같은 조회를 같은 값으로 비교할 수 있도록 정규화한다 (캐시 키로 사용).
+     * - 앞뒤 공백 제거, 빈 문자열은 null
+     * - 페이지 크기는 실제 적용되는 값
+     */
+    public AnimalSearchCondition normalized() {
+        return new AnimalSearchCondition(trim(upKindNm), trim(kindNm), sexCd, neuterYn, trim(processState),
+                trim(orgNm), trim(careNm), noticeFrom, noticeTo, noticeEndFrom, noticeEndTo,
+                minWeightGrams, maxWeightGrams, bornFrom, bornTo, trim(cursor), pageSize());
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 보정한다.
+     */
+    public int pageSize() {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,22 @@
+package com.playdata.petevent.api.dto;
+
+/**
+ * 유기동물 목록 화면용 응답 (목록에 필요한 컬럼만 조회).
+ * 특이사항, 보호소 연락처 등 상세 정보는 포함하지 않는다.
+ */
+public record AnimalSummaryResponse(
+        String desertionNo,
+        String upKindNm,
+        String kindNm,
+        String sexCd,
+        String neuterYn,
+        String age,
+        String weight,
+        String colorCd,
+        String noticeSdt,
+        String noticeEdt,
+        String processState,
+        String popfile1,
+        String careNm,
+        String orgNm) {
+}
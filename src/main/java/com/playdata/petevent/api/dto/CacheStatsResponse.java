@@ -0,0 +1,22 @@
+package com.playdata.petevent.api.dto;
+
+/**
+ * 조회 캐시 통계 (애플리케이션 시작 이후 누적).
+ *
+ * @param size          현재 캐시 항목 수 (근사값)
+ * @param hitCount      캐시 적중 수
+ * @param missCount     캐시 미스 수 (DB 조회 수와 같음)
+ * @param hitRate       적중률 (0 ~ 1)
+ * @param evictionCount 크기 제한/만료로 제거된 항목 수 (무효화로 제거된 항목은 제외)
+ * @param loadFailureCount DB 조회 실패 수
+ * @param invalidations 동기화 후 전체 무효화 횟수
+ */
+public record CacheStatsResponse(
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long loadFailureCount,
+        long invalidations) {
+}
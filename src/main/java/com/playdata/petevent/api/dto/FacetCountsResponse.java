@@ -0,0 +1,16 @@
+package com.playdata.petevent.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 유기동물 집계 건수.
+ *
+ * @param facets      항목(upKindNm, sexCd, neuterYn, processState, orgNm, noticeWeek) → 값 → 건수
+ *                    (값이 없는 데이터는 빈 문자열 키로 집계)
+ * @param refreshedAt 집계 테이블에서 마지막으로 불러온 시각
+ */
+public record FacetCountsResponse(
+        Map<String, Map<String, Long>> facets,
+        LocalDateTime refreshedAt) {
+}
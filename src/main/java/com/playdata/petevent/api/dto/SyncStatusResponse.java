@@ -0,0 +1,34 @@
+package com.playdata.petevent.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 Job 실행 상태 응답.
+ *
+ * @param jobExecutionId JobExecution id
+ * @param jobName        Job 이름 (syncAnimalJob, fullRefreshAnimalJob)
+ * @param status         실행 상태 (STARTING, STARTED, COMPLETED, FAILED ...)
+ * @param exitCode       종료 코드
+ * @param startTime      시작 시각 (시작 전이면 null)
+ * @param endTime        종료 시각 (실행 중이면 null)
+ * @param pagesFetched   지금까지 처리한 API 페이지 수 (마지막 Chunk 커밋 기준)
+ * @param readCount      읽은 데이터 수
+ * @param writeCount     저장한 데이터 수
+ * @param filterCount    중복으로 걸러진 데이터 수
+ * @param skipCount      skip된 데이터 수 (animal_sync_skip 참고)
+ * @param parseFailures  날짜/체중/나이 값 중 변환하지 못한 값의 수 (해당 변환 컬럼은 null로 저장)
+ */
+public record SyncStatusResponse(
+        Long jobExecutionId,
+        String jobName,
+        String status,
+        String exitCode,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long pagesFetched,
+        long readCount,
+        long writeCount,
+        long filterCount,
+        long skipCount,
+        long parseFailures) {
+}
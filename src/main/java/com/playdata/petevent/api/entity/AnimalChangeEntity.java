@@ -0,0 +1,69 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 유기동물 변경 기록 (transactional outbox).
+ *
+ * - id: 기록 순번 (구독자가 어디까지 읽었는지 나타내는 cursor)
+ * - desertionNo: 유기번호
+ * - changeType: INSERTED, UPDATED, DELETED
+ * - changedFields: 바뀐 필드 이름 (쉼표 구분, UPDATED만 해당 / 알 수 없으면 null)
+ * - syncRunId: 변경을 만든 동기화 실행 번호 (JobInstance id)
+ * - createAt: 기록 일시
+
+ * 데이터 변경과 같은 트랜잭션에서 기록되므로, 커밋된 변경은 빠짐없이 기록되고 롤백된 변경은 기록되지 않는다.
+ * 읽기/쓰기는 AnimalChangeRepository(JdbcTemplate)에서 수행한다.
+ */
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "animal_change_outbox", indexes = {
+        @Index(name = "idx_animal_change_outbox_create_at", columnList = "create_at"),
+        @Index(name = "idx_animal_change_outbox_sync_run_id", columnList = "sync_run_id")
+})
+public class AnimalChangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "desertion_no", nullable = false)
+    private String desertionNo; // 유기번호
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 10, nullable = false)
+    private ChangeType changeType; // 변경 종류
+
+    @Column(name = "changed_fields", length = 1000)
+    private String changedFields; // 바뀐 필드 이름 (쉼표 구분)
+
+    @Column(name = "sync_run_id")
+    private Long syncRunId; // 동기화 실행 번호
+
+    @Column(name = "create_at", nullable = false)
+    private LocalDateTime createAt; // 기록 일시
+
+    public enum ChangeType {
+        INSERTED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,39 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 변경 기록(animal_change_outbox) 쓰기 순서용 잠금 행 (id = 1 한 행만 사용).
+
+ * - 변경 기록을 쓰는 트랜잭션은 먼저 이 행을 UPDATE해서 행 잠금을 잡고, 커밋할 때까지 유지한다.
+ * - 따라서 변경 기록을 쓰는 트랜잭션은 한 번에 하나씩 순서대로 커밋되고,
+ *   AUTO_INCREMENT id도 커밋 순서대로 증가한다 (작은 id가 나중에 커밋되는 경우가 없음).
+ * - 구독자는 "id > cursor"로만 조회해도 늦게 커밋된 기록을 건너뛰지 않는다.
+ *
+ * - writeCount: 변경 기록을 쓴 트랜잭션 수 (잠금을 위해 증가시키는 값)
+ * 읽기/쓰기는 AnimalChangeRepository(JdbcTemplate)에서 수행한다.
+ */
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "animal_change_outbox_lock")
+public class AnimalChangeLockEntity {
+
+    @Id
+    @Column(name = "id")
+    private Integer id; // 항상 1
+
+    @Column(name = "write_count", nullable = false)
+    private long writeCount; // 변경 기록을 쓴 트랜잭션 수
+}
@@ -0,0 +1,55 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 유기동물 집계 건수 (대시보드용 요약 테이블).
+ *
+ * - dimension: 집계 항목 (FacetDimension.key, 예: upKindNm)
+ * - facetValue: 항목 값 (값이 없으면 빈 문자열)
+ * - animalCount: 해당 값을 가진 유기동물 수
+
+ * 동기화 Writer와 삭제 처리가 변경분만 더하고 빼며(AnimalFacetRepository.apply),
+ * 테이블 교체(fullRefreshAnimalJob) 후에는 전체를 다시 계산한다.
+ * 테이블 생성을 위한 매핑이며, 읽기/쓰기는 AnimalFacetRepository(JdbcTemplate)에서 수행한다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "animal_facet_count")
+@IdClass(AnimalFacetCountEntity.Key.class)
+public class AnimalFacetCountEntity {
+
+    @Id
+    @Column(name = "dimension", length = 30)
+    private String dimension; // 집계 항목
+
+    @Id
+    @Column(name = "facet_value")
+    private String facetValue; // 항목 값
+
+    @Column(name = "animal_count", nullable = false)
+    private long animalCount; // 유기동물 수
+
+    // 복합키 (dimension, facet_value)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String dimension;
+        private String facetValue;
+    }
+}
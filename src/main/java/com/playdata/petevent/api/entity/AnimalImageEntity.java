@@ -0,0 +1,78 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 유기동물 이미지 썸네일 상태.
+ *
+ * - desertionNo, slot: 유기번호와 이미지 순번 (1: popfile1, 2: popfile2)
+ * - sourceUrl: 썸네일을 만든 원본 이미지 URL (동기화로 URL이 바뀌면 다시 내려받음)
+ * - thumbnailHash: 썸네일 파일 내용의 SHA-256 (ThumbnailStore의 파일 이름, 같은 이미지는 파일 하나를 공유)
+ * - status: READY, FAILED, EVICTED(용량 상한으로 파일 삭제됨), REQUESTED(조회 요청으로 다시 내려받을 대상)
+ * - updateAt: 상태 변경 일시
+
+ * 테이블 생성을 위한 매핑이며, 읽기/쓰기는 AnimalImageRepository(JdbcTemplate)에서 수행한다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "animal_image", indexes = {
+        @Index(name = "idx_animal_image_thumbnail_hash", columnList = "thumbnail_hash")
+})
+@IdClass(AnimalImageEntity.Key.class)
+public class AnimalImageEntity {
+
+    @Id
+    @Column(name = "desertion_no")
+    private String desertionNo; // 유기번호
+
+    @Id
+    @Column(name = "slot")
+    private int slot; // 이미지 순번 (1, 2)
+
+    @Column(name = "source_url", length = 500)
+    private String sourceUrl; // 원본 이미지 URL
+
+    @Column(name = "thumbnail_hash", length = 64)
+    private String thumbnailHash; // 썸네일 내용 해시
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    private ImageStatus status; // 썸네일 상태
+
+    @Column(name = "update_at", nullable = false)
+    private LocalDateTime updateAt; // 상태 변경 일시
+
+    public enum ImageStatus {
+        READY,
+        FAILED,
+        EVICTED,
+        REQUESTED
+    }
+
+    // 복합키 (desertion_no, slot)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String desertionNo;
+        private int slot;
+    }
+}
@@ -1,13 +1,23 @@
 package com.playdata.petevent.api.entity;
 
+import com.playdata.petevent.api.util.AnimalFingerprint;
+import com.playdata.petevent.api.util.AnimalValueParser;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +25,7 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
@@ -25,9 +36,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * - desertionNo: 유기번호, 기본키
  * - processState: 보호 상태 (보호중, 분양중 등)
  * - sexCd, neuterYn: enum으로 관리 (성별, 중성화 여부)
+ * - happenDate, noticeStartDate, noticeEndDate, weightGrams, birthYear:
+ *   문자열 필드를 변환한 값 (범위 조회/인덱스용, 변환할 수 없으면 null)
+ * - contentHash: 데이터 필드 전체의 지문 (변경 여부를 엔티티 조회 없이 판단하기 위함)
+ * - lastSyncRun: 마지막으로 API 결과에 포함되었던 동기화 실행 번호 (삭제 대상 판별용)
+ * - 조회 API는 (notice_sdt DESC, desertion_no DESC) 순서의 keyset 페이지네이션을 사용 (인덱스 참고)
  * - createAt, updateAt: 생성/수정일 자동 관리
  *
  * updateIfChanged 메서드로 안전하게 필드 업데이트 가능.
+ *
+ * desertionNo는 API에서 받은 값을 그대로 PK로 쓰기 때문에(직접 할당 ID),
+ * 기본 동작대로라면 save() 시 merge를 위해 SELECT가 먼저 실행된다.
+ * Persistable을 구현해 DB에서 읽어온 적 없는 엔티티는 신규로 판단하여 바로 INSERT(persist)하도록 한다.
  */
 @Getter
 @ToString
@@ -35,9 +55,27 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "abandoned_animals")
+@Table(name = "abandoned_animals", indexes = {
+        @Index(name = "idx_abandoned_animals_last_sync_run", columnList = "last_sync_run"),
+        // 조회 API(AnimalQueryRepository)용: 등호 조건 컬럼 하나 + 정렬 키(notice_sdt) 순서
+        // InnoDB 보조 인덱스는 끝에 PK(desertion_no)를 포함하므로 (조건 컬럼, notice_sdt, desertion_no) 순서로 바로 읽힘
+        // 조건 컬럼과 notice_sdt 사이에 다른 컬럼이 끼면 그 컬럼 조건이 없을 때 정렬 순서로 읽을 수 없으므로 단독 인덱스로 둠
+        @Index(name = "idx_abandoned_animals_notice", columnList = "notice_sdt"),
+        @Index(name = "idx_abandoned_animals_state_notice", columnList = "process_state, notice_sdt"),
+        @Index(name = "idx_abandoned_animals_up_kind_notice", columnList = "up_kind_nm, notice_sdt"),
+        @Index(name = "idx_abandoned_animals_kind_nm_notice", columnList = "kind_nm, notice_sdt"),
+        @Index(name = "idx_abandoned_animals_org_notice", columnList = "org_nm, notice_sdt"),
+        @Index(name = "idx_abandoned_animals_care_notice", columnList = "care_nm, notice_sdt"),
+        // 가장 흔한 조합 (보호중 + 축종)
+        @Index(name = "idx_abandoned_animals_state_kind_notice", columnList = "process_state, up_kind_nm, notice_sdt"),
+        // 변환 컬럼 범위 조회용 (공고 종료 임박, 체중, 출생 연도, 발생일)
+        @Index(name = "idx_abandoned_animals_notice_end_date", columnList = "notice_end_date"),
+        @Index(name = "idx_abandoned_animals_weight_grams", columnList = "weight_grams"),
+        @Index(name = "idx_abandoned_animals_birth_year", columnList = "birth_year"),
+        @Index(name = "idx_abandoned_animals_happen_date", columnList = "happen_date")
+})
 @EntityListeners(AuditingEntityListener.class)
-public class AnimalsEntity {
+public class AnimalsEntity implements Persistable<String> {
 
     @Id
     @Column(name = "desertion_no", nullable = false, unique = true)
@@ -111,6 +149,27 @@ public class AnimalsEntity {
     @Column(name = "etc_bigo", columnDefinition = "TEXT")
     private String etcBigo; // 기타 비고
 
+    @Column(name = "happen_date")
+    private LocalDate happenDate; // happenDt 변환 값
+
+    @Column(name = "notice_start_date")
+    private LocalDate noticeStartDate; // noticeSdt 변환 값
+
+    @Column(name = "notice_end_date")
+    private LocalDate noticeEndDate; // noticeEdt 변환 값
+
+    @Column(name = "weight_grams")
+    private Integer weightGrams; // weight 변환 값 (그램, 예: "3(Kg)" → 3000)
+
+    @Column(name = "birth_year")
+    private Integer birthYear; // age 변환 값 (예: "2023(년생)" → 2023)
+
+    @Column(name = "content_hash")
+    private Long contentHash; // 데이터 필드 전체의 지문 (AnimalFingerprint 참고)
+
+    @Column(name = "last_sync_run")
+    private Long lastSyncRun; // 마지막으로 API 결과에 포함된 동기화 실행 번호 (JobInstance id)
+
     @CreatedDate
     @Column(name = "create_at", updatable = false)
     private LocalDateTime createAt; // 생성 일시 (자동 관리)
@@ -119,77 +178,189 @@ public class AnimalsEntity {
     @Column(name = "update_at")
     private LocalDateTime updateAt; // 수정 일시 (자동 관리)
 
+    @Transient
+    @ToString.Exclude
+    private int parseFailures; // 마지막 refreshTypedFields에서 변환하지 못한 필드 수 (컬럼 아님)
+
+    @Transient
+    @ToString.Exclude
+    private boolean persisted; // DB에서 조회했거나 이미 저장된 엔티티인지 여부 (컬럼 아님)
+
+    /**
+     * Persistable: 식별자로 유기번호를 사용
+     */
+    @Override
+    public String getId() {
+        return desertionNo;
+    }
+
+    /**
+     * Persistable: DB에서 읽어오거나 저장된 적이 없으면 신규 엔티티
+     * → Spring Data가 merge(SELECT 후 INSERT) 대신 persist(INSERT)를 사용
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    // 조회 또는 저장 이후에는 기존 엔티티로 취급
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     /**
-     * 기존 엔티티 필드와 비교해 source 값이 다르고 null이 아닐 때만 업데이트
+     * 이번 동기화 실행의 API 결과에 포함되었음을 기록한다.
+     */
+    public void markSynced(long syncRunId) {
+        this.lastSyncRun = syncRunId;
+    }
+
+    /**
+     * 문자열 필드를 날짜/숫자 컬럼으로 변환한다. API 응답을 엔티티로 변환한 직후(contentHash 계산 전) 호출된다.
+     * 값이 있지만 변환하지 못한 필드 수를 parseFailures에 기록한다.
+     */
+    public void refreshTypedFields() {
+        this.happenDate = AnimalValueParser.parseDate(happenDt);
+        this.noticeStartDate = AnimalValueParser.parseDate(noticeSdt);
+        this.noticeEndDate = AnimalValueParser.parseDate(noticeEdt);
+        this.weightGrams = AnimalValueParser.parseWeightGrams(weight);
+        this.birthYear = AnimalValueParser.parseBirthYear(age);
+
+        this.parseFailures = failed(happenDt, happenDate) + failed(noticeSdt, noticeStartDate)
+                + failed(noticeEdt, noticeEndDate) + failed(weight, weightGrams) + failed(age, birthYear);
+    }
+
+    // 원본 값이 있는데 변환 결과가 없으면 실패
+    private static int failed(String raw, Object parsed) {
+        return parsed == null && raw != null && !raw.isBlank() ? 1 : 0;
+    }
+
+    /**
+     * 현재 필드 값으로 contentHash를 다시 계산한다.
+     * API 응답을 엔티티로 변환한 직후 호출된다.
+     */
+    public void refreshContentHash() {
+        this.contentHash = AnimalFingerprint.of(this);
+    }
+
+    /**
+     * 기존 엔티티 필드와 비교해 source 값이 다른 필드만 업데이트
+     * API 응답이 원본이므로 API에서 값이 없어진(null) 필드도 null로 반영한다.
+     * (기존 값을 남기면 저장된 contentHash가 실제 행 내용과 달라져 이후 동기화에서 영영 고쳐지지 않음)
      * desertionNo, id 등 식별키 필드는 제외하여 안전한 필드 변경 보장
+     * contentHash는 source의 값으로 교체 (모든 필드를 source와 같게 맞췄으므로 행 내용의 지문과 일치)
+     *
+     * @return 실제로 값이 바뀐 필드 이름 목록 (변경 피드 기록용, contentHash와 변환 컬럼 제외)
      */
-    public void updateIfChanged(AnimalsEntity source) {
-        if (source.getRfidCd() != null && !source.getRfidCd().equals(this.rfidCd)) {
+    public List<String> updateIfChanged(AnimalsEntity source) {
+        List<String> changed = new ArrayList<>();
+        this.contentHash = source.getContentHash();
+        if (!Objects.equals(source.getRfidCd(), this.rfidCd)) {
             this.rfidCd = source.getRfidCd();
+            changed.add("rfidCd");
         }
-        if (source.getHappenDt() != null && !source.getHappenDt().equals(this.happenDt)) {
+        if (!Objects.equals(source.getHappenDt(), this.happenDt)) {
             this.happenDt = source.getHappenDt();
+            changed.add("happenDt");
         }
-        if (source.getHappenPlace() != null && !source.getHappenPlace().equals(this.happenPlace)) {
+        if (!Objects.equals(source.getHappenPlace(), this.happenPlace)) {
             this.happenPlace = source.getHappenPlace();
+            changed.add("happenPlace");
         }
-        if (source.getUpKindNm() != null && !source.getUpKindNm().equals(this.upKindNm)) {
+        if (!Objects.equals(source.getUpKindNm(), this.upKindNm)) {
             this.upKindNm = source.getUpKindNm();
+            changed.add("upKindNm");
         }
-        if (source.getKindNm() != null && !source.getKindNm().equals(this.kindNm)) {
+        if (!Objects.equals(source.getKindNm(), this.kindNm)) {
             this.kindNm = source.getKindNm();
+            changed.add("kindNm");
         }
-        if (source.getColorCd() != null && !source.getColorCd().equals(this.colorCd)) {
+        if (!Objects.equals(source.getColorCd(), this.colorCd)) {
             this.colorCd = source.getColorCd();
+            changed.add("colorCd");
         }
-        if (source.getAge() != null && !source.getAge().equals(this.age)) {
+        if (!Objects.equals(source.getAge(), this.age)) {
             this.age = source.getAge();
+            changed.add("age");
         }
-        if (source.getWeight() != null && !source.getWeight().equals(this.weight)) {
+        if (!Objects.equals(source.getWeight(), this.weight)) {
             this.weight = source.getWeight();
+            changed.add("weight");
         }
-        if (source.getNoticeSdt() != null && !source.getNoticeSdt().equals(this.noticeSdt)) {
+        if (!Objects.equals(source.getNoticeSdt(), this.noticeSdt)) {
             this.noticeSdt = source.getNoticeSdt();
+            changed.add("noticeSdt");
         }
-        if (source.getNoticeEdt() != null && !source.getNoticeEdt().equals(this.noticeEdt)) {
+        if (!Objects.equals(source.getNoticeEdt(), this.noticeEdt)) {
             this.noticeEdt = source.getNoticeEdt();
+            changed.add("noticeEdt");
         }
-        if (source.getPopfile1() != null && !source.getPopfile1().equals(this.popfile1)) {
+        if (!Objects.equals(source.getPopfile1(), this.popfile1)) {
             this.popfile1 = source.getPopfile1();
+            changed.add("popfile1");
         }
-        if (source.getPopfile2() != null && !source.getPopfile2().equals(this.popfile2)) {
+        if (!Objects.equals(source.getPopfile2(), this.popfile2)) {
             this.popfile2 = source.getPopfile2();
+            changed.add("popfile2");
         }
-        if (source.getProcessState() != null && !source.getProcessState().equals(this.processState)) {
+        if (!Objects.equals(source.getProcessState(), this.processState)) {
             this.processState = source.getProcessState();
+            changed.add("processState");
         }
-        if (source.getSexCd() != null && !source.getSexCd().equals(this.sexCd)) {
+        if (!Objects.equals(source.getSexCd(), this.sexCd)) {
             this.sexCd = source.getSexCd();
+            changed.add("sexCd");
         }
-        if (source.getNeuterYn() != null && !source.getNeuterYn().equals(this.neuterYn)) {
+        if (!Objects.equals(source.getNeuterYn(), this.neuterYn)) {
             this.neuterYn = source.getNeuterYn();
+            changed.add("neuterYn");
         }
-        if (source.getSpecialMark() != null && !source.getSpecialMark().equals(this.specialMark)) {
+        if (!Objects.equals(source.getSpecialMark(), this.specialMark)) {
             this.specialMark = source.getSpecialMark();
+            changed.add("specialMark");
         }
-        if (source.getCareNm() != null && !source.getCareNm().equals(this.careNm)) {
+        if (!Objects.equals(source.getCareNm(), this.careNm)) {
             this.careNm = source.getCareNm();
+            changed.add("careNm");
         }
-        if (source.getCareTel() != null && !source.getCareTel().equals(this.careTel)) {
+        if (!Objects.equals(source.getCareTel(), this.careTel)) {
             this.careTel = source.getCareTel();
+            changed.add("careTel");
         }
-        if (source.getCareAddr() != null && !source.getCareAddr().equals(this.careAddr)) {
+        if (!Objects.equals(source.getCareAddr(), this.careAddr)) {
             this.careAddr = source.getCareAddr();
+            changed.add("careAddr");
         }
-        if (source.getCareOwnerNm() != null && !source.getCareOwnerNm().equals(this.careOwnerNm)) {
+        if (!Objects.equals(source.getCareOwnerNm(), this.careOwnerNm)) {
             this.careOwnerNm = source.getCareOwnerNm();
+            changed.add("careOwnerNm");
         }
-        if (source.getOrgNm() != null && !source.getOrgNm().equals(this.orgNm)) {
+        if (!Objects.equals(source.getOrgNm(), this.orgNm)) {
             this.orgNm = source.getOrgNm();
+            changed.add("orgNm");
         }
-        if (source.getEtcBigo() != null && !source.getEtcBigo().equals(this.etcBigo)) {
+        if (!Objects.equals(source.getEtcBigo(), this.etcBigo)) {
             this.etcBigo = source.getEtcBigo();
+            changed.add("etcBigo");
+        }
+        if (!Objects.equals(source.getHappenDate(), this.happenDate)) {
+            this.happenDate = source.getHappenDate();
+        }
+        if (!Objects.equals(source.getNoticeStartDate(), this.noticeStartDate)) {
+            this.noticeStartDate = source.getNoticeStartDate();
+        }
+        if (!Objects.equals(source.getNoticeEndDate(), this.noticeEndDate)) {
+            this.noticeEndDate = source.getNoticeEndDate();
+        }
+        if (!Objects.equals(source.getWeightGrams(), this.weightGrams)) {
+            this.weightGrams = source.getWeightGrams();
+        }
+        if (!Objects.equals(source.getBirthYear(), this.birthYear)) {
+            this.birthYear = source.getBirthYear();
         }
+        return changed;
     }
 
     // 성별 코드 enum (M: 수컷, F: 암컷, Q: 미상)
@@ -0,0 +1,70 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 동기화 중 skip 처리된 데이터 기록.
+ *
+ * - jobExecutionId, stepName: skip이 발생한 실행
+ * - phase: skip이 발생한 단계 (READ, PROCESS, WRITE)
+ * - desertionNo: 유기번호 (READ 단계 또는 유기번호가 없는 데이터는 null)
+ * - errorType, errorMessage: skip 원인 예외
+ * - item: skip된 데이터 내용 (확인용)
+ * - createAt: 기록 일시 (자동 관리)
+ */
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "animal_sync_skip", indexes = {
+        @Index(name = "idx_animal_sync_skip_job_execution_id", columnList = "job_execution_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class SyncSkipEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_execution_id")
+    private Long jobExecutionId; // skip이 발생한 JobExecution id
+
+    @Column(name = "step_name", length = 100)
+    private String stepName; // skip이 발생한 Step (파티션이면 워커 Step 이름)
+
+    @Column(name = "phase", length = 10)
+    private String phase; // READ, PROCESS, WRITE
+
+    @Column(name = "desertion_no")
+    private String desertionNo; // 유기번호 (없을 수 있음)
+
+    @Column(name = "error_type")
+    private String errorType; // 예외 클래스 이름
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage; // 예외 메시지
+
+    @Column(name = "item", columnDefinition = "TEXT")
+    private String item; // skip된 데이터 내용
+
+    @CreatedDate
+    @Column(name = "create_at", updatable = false)
+    private LocalDateTime createAt; // 기록 일시 (자동 관리)
+}
@@ -0,0 +1,60 @@
+package com.playdata.petevent.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 동기화 워터마크 (Job별 마지막 성공 동기화 시점).
+ *
+ * - jobName: 배치 Job 이름 (PK)
+ * - syncedDate: 마지막으로 성공한 동기화의 시작 날짜 (DELTA 동기화의 검색 시작일 계산 기준)
+ * - jobExecutionId: 워터마크를 갱신한 JobExecution id
+ * - updateAt: 갱신 일시 (자동 관리)
+ */
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "animal_sync_watermark")
+@EntityListeners(AuditingEntityListener.class)
+public class SyncWatermarkEntity {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName; // 배치 Job 이름
+
+    @Column(name = "synced_date", nullable = false)
+    private LocalDate syncedDate; // 마지막 성공 동기화 시작 날짜
+
+    @Column(name = "job_execution_id")
+    private Long jobExecutionId; // 워터마크를 갱신한 JobExecution id
+
+    @LastModifiedDate
+    @Column(name = "update_at")
+    private LocalDateTime updateAt; // 갱신 일시 (자동 관리)
+
+    /**
+     * 워터마크를 앞으로만 이동한다.
+     * 늦게 끝난 이전 실행이 더 최근 워터마크를 되돌리지 않도록 한다.
+     */
+    public void advance(LocalDate syncedDate, Long jobExecutionId) {
+        if (this.syncedDate == null || syncedDate.isAfter(this.syncedDate)) {
+            this.syncedDate = syncedDate;
+            this.jobExecutionId = jobExecutionId;
+        }
+    }
+}
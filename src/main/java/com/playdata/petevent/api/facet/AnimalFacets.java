@@ -0,0 +1,73 @@
+package com.playdata.petevent.api.facet;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.IsoFields;
+
+/**
+ * 유기동물 한 건의 집계 항목 값.
+ * 값이 없으면 빈 문자열("")로 집계한다.
+ */
+public record AnimalFacets(
+        String upKindNm,
+        String sexCd,
+        String neuterYn,
+        String processState,
+        String orgNm,
+        String noticeWeek) {
+
+    public static final String NONE = "";
+
+    public static AnimalFacets of(AnimalsEntity animal) {
+        return of(animal.getUpKindNm(),
+                animal.getSexCd() == null ? null : animal.getSexCd().name(),
+                animal.getNeuterYn() == null ? null : animal.getNeuterYn().name(),
+                animal.getProcessState(),
+                animal.getOrgNm(),
+                animal.getNoticeSdt());
+    }
+
+    /**
+     * 컬럼 값(DB 조회 결과)으로 집계 항목 값을 만든다.
+     *
+     * @param noticeSdt 공고 시작일 (yyyyMMdd), 주차로 변환
+     */
+    public static AnimalFacets of(String upKindNm, String sexCd, String neuterYn,
+                                  String processState, String orgNm, String noticeSdt) {
+        return new AnimalFacets(orNone(upKindNm), orNone(sexCd), orNone(neuterYn),
+                orNone(processState), orNone(orgNm), noticeWeek(noticeSdt));
+    }
+
+    public String value(FacetDimension dimension) {
+        return switch (dimension) {
+            case UP_KIND_NM -> upKindNm;
+            case SEX_CD -> sexCd;
+            case NEUTER_YN -> neuterYn;
+            case PROCESS_STATE -> processState;
+            case ORG_NM -> orgNm;
+            case NOTICE_WEEK -> noticeWeek;
+        };
+    }
+
+    /**
+     * yyyyMMdd → ISO 주차 (yyyy-Www). 형식이 맞지 않으면 NONE.
+     */
+    static String noticeWeek(String noticeSdt) {
+        if (noticeSdt == null || noticeSdt.isBlank()) {
+            return NONE;
+        }
+        try {
+            LocalDate date = LocalDate.parse(noticeSdt.trim(), DateTimeFormatter.BASIC_ISO_DATE);
+            return String.format("%d-W%02d",
+                    date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    private static String orNone(String value) {
+        return value == null ? NONE : value;
+    }
+}
@@ -0,0 +1,71 @@
+package com.playdata.petevent.api.facet;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 건수 변경분 (항목, 값) → 증감.
+ * Writer가 Chunk를 처리하면서 신규/변경/삭제를 누적하고, Chunk 트랜잭션 안에서 한 번에 반영한다.
+ */
+public class FacetDelta {
+
+    private final Map<FacetKey, Long> counts = new HashMap<>();
+
+    // 신규 데이터
+    public void add(AnimalFacets facets) {
+        apply(facets, 1);
+    }
+
+    // 삭제된 데이터
+    public void remove(AnimalFacets facets) {
+        apply(facets, -1);
+    }
+
+    /**
+     * 같은 값을 가진 데이터 count건을 더하거나(양수) 뺀다(음수).
+     */
+    public void apply(AnimalFacets facets, long count) {
+        for (FacetDimension dimension : FacetDimension.values()) {
+            counts.merge(new FacetKey(dimension, facets.value(dimension)), count, Long::sum);
+        }
+    }
+
+    /**
+     * 기존 데이터가 바뀐 경우: 바뀐 항목만 이전 값 -1, 새 값 +1
+     */
+    public void change(AnimalFacets before, AnimalFacets after) {
+        if (before.equals(after)) {
+            return;
+        }
+        for (FacetDimension dimension : FacetDimension.values()) {
+            String oldValue = before.value(dimension);
+            String newValue = after.value(dimension);
+            if (!oldValue.equals(newValue)) {
+                counts.merge(new FacetKey(dimension, oldValue), -1L, Long::sum);
+                counts.merge(new FacetKey(dimension, newValue), 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * 증감이 0이 아닌 항목을 (항목, 값) 순서로 정렬해 반환한다.
+     * 여러 트랜잭션이 같은 순서로 행 잠금을 잡도록 해 교착 상태를 줄인다.
+     */
+    public List<Map.Entry<FacetKey, Long>> entries() {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(Comparator
+                        .comparing((FacetKey key) -> key.dimension().key())
+                        .thenComparing(FacetKey::value)))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return counts.values().stream().allMatch(count -> count == 0);
+    }
+
+    public record FacetKey(FacetDimension dimension, String value) {
+    }
+}
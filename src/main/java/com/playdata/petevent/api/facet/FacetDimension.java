@@ -0,0 +1,24 @@
+package com.playdata.petevent.api.facet;
+
+/**
+ * 대시보드에서 건수를 집계하는 항목.
+ * key는 animal_facet_count.dimension 컬럼 값이자 조회 API 응답의 키로 사용된다.
+ */
+public enum FacetDimension {
+    UP_KIND_NM("upKindNm"),       // 축종
+    SEX_CD("sexCd"),              // 성별
+    NEUTER_YN("neuterYn"),        // 중성화 여부
+    PROCESS_STATE("processState"), // 보호 상태
+    ORG_NM("orgNm"),              // 관할 지자체
+    NOTICE_WEEK("noticeWeek");    // 공고 시작 주 (ISO 주차, 예: 2024-W05)
+
+    private final String key;
+
+    FacetDimension(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
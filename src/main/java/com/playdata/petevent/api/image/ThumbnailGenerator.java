@@ -0,0 +1,108 @@
+package com.playdata.petevent.api.image;
+
+import com.playdata.petevent.api.config.AnimalImageProperties;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지로 고정 크기 JPEG 썸네일을 만든다 (ImageIO).
+
+ * - 디코딩 전에 헤더의 가로/세로만 읽어서 animal.image.max-source-pixels를 넘는 이미지는 거절
+ * - 원본이 썸네일보다 2배 이상 크면 디코딩할 때부터 픽셀을 건너뛰어 읽음 (subsampling → 메모리/시간 절약)
+ * - 비율을 유지한 채 썸네일 크기를 모두 덮도록 축소하고 가운데를 잘라냄 (목록 화면의 격자 크기를 일정하게 유지)
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private final AnimalImageProperties properties;
+
+    public ThumbnailGenerator(AnimalImageProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param source 원본 이미지 바이트 (JPEG, PNG, GIF 등 ImageIO가 읽을 수 있는 형식)
+     * @return JPEG 썸네일 바이트
+     * @throws IOException 읽을 수 없는 형식이거나 너무 큰 이미지인 경우
+     */
+    public byte[] generate(byte[] source) throws IOException {
+        return encode(resize(decode(source)));
+    }
+
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxSourcePixels()) {
+                    throw new IOException(String.format("이미지가 너무 큼 (%dx%d)", width, height));
+                }
+
+                int step = Math.max(1, Math.min(width / (properties.getWidth() * 2), height / (properties.getHeight() * 2)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source) {
+        int targetWidth = properties.getWidth();
+        int targetHeight = properties.getHeight();
+        double scale = Math.max((double) targetWidth / source.getWidth(), (double) targetHeight / source.getHeight());
+        int drawWidth = (int) Math.ceil(source.getWidth() * scale);
+        int drawHeight = (int) Math.ceil(source.getHeight() * scale);
+
+        // JPEG는 투명도를 지원하지 않으므로 흰 배경 위에 그림
+        BufferedImage thumbnail = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = thumbnail.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, (targetWidth - drawWidth) / 2, (targetHeight - drawHeight) / 2, drawWidth, drawHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return thumbnail;
+    }
+
+    private byte[] encode(BufferedImage thumbnail) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(properties.getJpegQuality());
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(thumbnail, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
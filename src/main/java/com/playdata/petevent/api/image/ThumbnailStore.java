@@ -0,0 +1,218 @@
+package com.playdata.petevent.api.image;
+
+import com.playdata.petevent.api.config.AnimalImageProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 파일 저장소 (로컬 디스크, 내용 주소 방식).
+
+ * - 파일 이름은 썸네일 내용의 SHA-256 ({cache-dir}/ab/abcd....jpg) → 같은 이미지는 한 번만 저장되고, 주소가 가리키는 내용이 바뀌지 않음
+ * - 임시 파일에 쓴 뒤 이름을 바꿔서 저장하므로 조회하는 쪽은 쓰다 만 파일을 보지 않음
+ * - 전체 용량이 animal.image.max-cache-size를 넘으면 가장 오래 조회되지 않은 파일부터 삭제 (LRU)
+ * - 조회 순서는 메모리에만 기록하며, 재시작하면 파일 수정 시각 순서로 다시 시작
+ */
+@Slf4j
+@Component
+public class ThumbnailStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private static final String EXTENSION = ".jpg";
+
+    private final Path root;
+
+    private final long maxBytes;
+
+    // 해시 → 파일 정보 (접근 순서, 가장 오래 조회되지 않은 항목이 맨 앞)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+
+    private long totalBytes;
+
+    public ThumbnailStore(AnimalImageProperties properties) {
+        this.root = Paths.get(properties.getCacheDir()).toAbsolutePath().normalize();
+        this.maxBytes = properties.getMaxCacheSize().toBytes();
+        load();
+    }
+
+    /**
+     * 썸네일을 저장한다. 같은 내용이 이미 있으면 다시 쓰지 않는다.
+     *
+     * @return 썸네일 해시와, 용량 상한을 넘어 삭제된 썸네일 해시 목록
+     */
+    public Stored put(byte[] thumbnail) throws IOException {
+        String hash = DigestUtils.sha256Hex(thumbnail);
+        synchronized (this) {
+            if (entries.get(hash) != null) {
+                return new Stored(hash, List.of());
+            }
+        }
+
+        Path path = pathOf(hash);
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(root, "thumb-", ".tmp");
+        try {
+            Files.write(temp, thumbnail);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (entries.put(hash, new Entry(thumbnail.length, System.currentTimeMillis())) == null) {
+                totalBytes += thumbnail.length;
+            }
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Entry> eldest = it.next();
+                if (eldest.getKey().equals(hash)) {
+                    continue;
+                }
+                it.remove();
+                totalBytes -= eldest.getValue().size();
+                evicted.add(eldest.getKey());
+            }
+        }
+        evicted.forEach(this::deleteFile);
+        return new Stored(hash, evicted);
+    }
+
+    /**
+     * 썸네일 파일 경로를 반환하고 최근 조회로 기록한다.
+     *
+     * @return 해시 형식이 아니거나 저장되어 있지 않으면 empty
+     */
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            if (entries.get(hash) == null) {
+                return Optional.empty();
+            }
+        }
+        Path path = pathOf(hash);
+        if (!Files.isRegularFile(path)) {
+            // 외부에서 지워진 경우 목록에서도 제거
+            synchronized (this) {
+                Entry removed = entries.remove(hash);
+                if (removed != null) {
+                    totalBytes -= removed.size();
+                }
+            }
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+
+    /**
+     * referenced에 없는 썸네일 중 storedBeforeMillis 이전에 저장된 파일을 삭제한다.
+     * 가비지 컬렉션 도중 새로 저장되어 아직 기록되지 않은 썸네일은 지우지 않기 위해 저장 시각을 함께 비교한다.
+     *
+     * @return 삭제한 파일 수
+     */
+    public int retainOnly(Set<String> referenced, long storedBeforeMillis) {
+        List<String> removed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Entry> entry = it.next();
+                if (!referenced.contains(entry.getKey()) && entry.getValue().storedAt() < storedBeforeMillis) {
+                    it.remove();
+                    totalBytes -= entry.getValue().size();
+                    removed.add(entry.getKey());
+                }
+            }
+        }
+        removed.forEach(this::deleteFile);
+        return removed.size();
+    }
+
+    /**
+     * 시작 시 디렉터리의 썸네일을 수정 시각 순서로 불러오고, 남아 있는 임시 파일은 삭제한다.
+     */
+    private void load() {
+        try {
+            Files.createDirectories(root);
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(root, 2)) {
+                files = walk.filter(Files::isRegularFile).toList();
+            }
+
+            List<Path> thumbnails = new ArrayList<>();
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(EXTENSION) && HASH.matcher(hashOf(name)).matches()) {
+                    thumbnails.add(file);
+                }
+            }
+            thumbnails.sort(Comparator.comparingLong(this::lastModified));
+
+            for (Path file : thumbnails) {
+                long size = Files.size(file);
+                entries.put(hashOf(file.getFileName().toString()), new Entry(size, lastModified(file)));
+                totalBytes += size;
+            }
+            log.info("썸네일 저장소: {} ({}개, {} bytes)", root, entries.size(), totalBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("썸네일 저장소를 불러오지 못함: " + root, e);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + EXTENSION);
+    }
+
+    private static String hashOf(String fileName) {
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void deleteFile(String hash) {
+        try {
+            Files.deleteIfExists(pathOf(hash));
+        } catch (IOException e) {
+            log.warn("썸네일 파일 삭제 실패 ({}): {}", hash, e.toString());
+        }
+    }
+
+    // 파일 크기와 저장 시각
+    private record Entry(long size, long storedAt) {
+    }
+
+    /**
+     * 저장 결과.
+     *
+     * @param hash    저장한 썸네일 해시
+     * @param evicted 용량 상한을 넘어 삭제된 썸네일 해시
+     */
+    public record Stored(String hash, List<String> evicted) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.playdata.petevent.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유기동물 동기화 지표 (Micrometer, /actuator/prometheus 로 수집).
+
+ * - animal.api.page.latency{state, outcome}: 공공 API 페이지 호출 시간 (시도마다, 히스토그램)
+ * - animal.api.page.bytes{state}: 페이지 응답 크기 (압축 해제 전, 네트워크로 받은 바이트)
+ * - animal.sync.items{result}: read / inserted / updated / unchanged / deleted 건수 (커밋된 건수만)
+ * - animal.sync.chunk.commit: Writer 종료 → Chunk 트랜잭션 커밋 완료까지 걸린 시간
+ * - animal.sync.reconciliation{outcome}: API에 없어진 데이터 삭제 처리 시간
+ * - animal.sync.reader.heap.used{mode}: Reader가 새 페이지를 시작할 때의 힙 사용량 (읽기 방식별 메모리 비교용)
+
+ * 실행별 건수는 Prometheus에서 increase(animal_sync_items_total[...])로 계산한다.
+ */
+@Component
+public class AnimalSyncMetrics {
+
+    private static final String PAGE_LATENCY = "animal.api.page.latency";
+    private static final String PAGE_BYTES = "animal.api.page.bytes";
+    private static final String ITEMS = "animal.sync.items";
+
+    private final MeterRegistry registry;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    // 태그 조합별 Meter (호출마다 레지스트리를 조회하지 않도록 보관)
+    private final Map<String, Timer> pageTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> pageBytes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> readerHeap = new ConcurrentHashMap<>();
+
+    private final Counter read;
+    private final Counter inserted;
+    private final Counter updated;
+    private final Counter unchanged;
+    private final Counter deleted;
+
+    private final Timer chunkCommit;
+    private final Timer reconciliationSuccess;
+    private final Timer reconciliationFailure;
+
+    public AnimalSyncMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.read = itemCounter("read");
+        this.inserted = itemCounter("inserted");
+        this.updated = itemCounter("updated");
+        this.unchanged = itemCounter("unchanged");
+        this.deleted = itemCounter("deleted");
+        this.chunkCommit = Timer.builder("animal.sync.chunk.commit")
+                .description("Writer 종료부터 Chunk 트랜잭션 커밋까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.reconciliationSuccess = reconciliationTimer("success");
+        this.reconciliationFailure = reconciliationTimer("failure");
+    }
+
+    /**
+     * 공공 API 페이지 호출 한 번(재시도 포함 시도마다)의 시간과 받은 바이트 수를 기록한다.
+     *
+     * @param success 200 응답을 파싱까지 마쳤는지 여부
+     */
+    public void recordPage(String state, long elapsedNanos, long bytes, boolean success) {
+        String outcome = success ? "success" : "failure";
+        pageTimers.computeIfAbsent(state + ":" + outcome, key -> Timer.builder(PAGE_LATENCY)
+                        .description("공공 API 페이지 호출 시간")
+                        .tag("state", state)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(Duration.ofSeconds(60))
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (bytes > 0) {
+            pageBytes.computeIfAbsent(state, key -> DistributionSummary.builder(PAGE_BYTES)
+                            .description("공공 API 페이지 응답 크기 (압축 해제 전)")
+                            .baseUnit("bytes")
+                            .tag("state", state)
+                            .register(registry))
+                    .record(bytes);
+        }
+    }
+
+    public void recordRead(long count) {
+        read.increment(count);
+    }
+
+    /**
+     * Writer가 분류한 건수를 기록한다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하므로, 롤백 후 재시도된 Chunk가 두 번 세어지지 않는다.
+     */
+    public void recordWrite(long insertedCount, long updatedCount, long unchangedCount) {
+        Runnable record = () -> {
+            inserted.increment(insertedCount);
+            updated.increment(updatedCount);
+            unchanged.increment(unchangedCount);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    public void recordDeleted(long count) {
+        deleted.increment(count);
+    }
+
+    public void recordChunkCommit(long elapsedNanos) {
+        chunkCommit.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordReconciliation(long elapsedNanos, boolean success) {
+        (success ? reconciliationSuccess : reconciliationFailure).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 힙 사용량을 읽기 방식 태그로 기록한다. (Reader가 페이지를 시작할 때 호출)
+     */
+    public void sampleReaderHeap(String readerMode) {
+        readerHeap.computeIfAbsent(readerMode, key -> DistributionSummary.builder("animal.sync.reader.heap.used")
+                        .description("Reader가 새 페이지를 시작할 때의 힙 사용량")
+                        .baseUnit("bytes")
+                        .tag("mode", readerMode)
+                        .register(registry))
+                .record(memory.getHeapMemoryUsage().getUsed());
+    }
+
+    private Counter itemCounter(String result) {
+        return Counter.builder(ITEMS)
+                .description("동기화 처리 건수")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Timer reconciliationTimer(String outcome) {
+        return Timer.builder("animal.sync.reconciliation")
+                .description("API에 없어진 데이터 삭제 처리 시간")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
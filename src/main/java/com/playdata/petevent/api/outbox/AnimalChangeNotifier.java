@@ -0,0 +1,69 @@
+package com.playdata.petevent.api.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 변경 기록(animal_change_outbox) 커밋 알림.
+
+ * - 변경 기록을 쓴 트랜잭션이 커밋되면 버전을 올리고 대기 중인 구독자를 깨움
+ * - 구독자는 마지막으로 본 버전을 넘겨 대기하므로, 조회와 대기 사이에 들어온 알림도 놓치지 않음
+ * - 롤백된 트랜잭션은 알리지 않음 (기록도 함께 롤백되므로)
+ */
+@Component
+public class AnimalChangeNotifier {
+
+    private final Object monitor = new Object();
+
+    private long version = 0;
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 알린다. 트랜잭션이 없으면 바로 알린다.
+     */
+    public void signalAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signal();
+                }
+            });
+        } else {
+            signal();
+        }
+    }
+
+    public void signal() {
+        synchronized (monitor) {
+            version++;
+            monitor.notifyAll();
+        }
+    }
+
+    // 현재 버전 (조회 직전에 읽어 두고 awaitChange에 전달)
+    public long version() {
+        synchronized (monitor) {
+            return version;
+        }
+    }
+
+    /**
+     * seenVersion 이후 새 알림이 올 때까지 최대 timeoutMillis 동안 대기한다.
+     *
+     * @return 새 알림이 있었으면 true
+     */
+    public boolean awaitChange(long seenVersion, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (monitor) {
+            while (version == seenVersion) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                monitor.wait(remaining);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.batch.writer.AnimalJdbcItemWriter;
+import com.playdata.petevent.api.dto.AnimalArchiveCondition;
+import com.playdata.petevent.api.dto.AnimalArchiveCursor;
+import com.playdata.petevent.api.dto.AnimalArchiveResponse;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * API에서 사라진 유기동물 보관 테이블(abandoned_animals_archive) 관리 (NamedParameterJdbcTemplate)
+
+ * - 삭제 대신 보관(animal.sync.departed-mode=archive)할 때 운영 테이블의 행을 INSERT ... SELECT 한 번으로 복사
+ *   → 호출하는 쪽에서 같은 트랜잭션 안에서 운영 테이블의 행을 DELETE (보관 없이 삭제되거나 두 번 남는 경우 없음)
+ * - 추가만 하고 수정/삭제하지 않음. 다시 나타났다가 또 사라진 유기동물은 보관 시각별로 여러 행이 남음
+ * - 보관 시각(archived_at) 기준 월 단위 RANGE 파티션
+ *   → 기간 조건 조회는 해당 월 파티션만 읽고, 오래된 기록은 파티션 단위로 바로 정리할 수 있음
+ * - 파티션 키가 모든 고유 키에 포함되어야 하므로 PK는 (desertion_no, archived_at)
+ * - 테이블은 ddl-auto로 만들 수 없으므로(파티션) 애플리케이션 시작 시 ensureTable로 생성
+ *
+ * MySQL의 DDL(CREATE/ALTER TABLE)은 자동 커밋되므로 보관 트랜잭션 안에서 호출하면 안 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalArchiveRepository {
+
+    public static final String TABLE = "abandoned_animals_archive";
+
+    // 파티션 이름 (p + yyyyMM), 아직 파티션이 없는 월의 데이터는 p_max에 저장
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String MAX_PARTITION = "p_max";
+
+    // 운영 테이블에서 그대로 복사하는 컬럼 (데이터 컬럼은 AnimalJdbcItemWriter.COLUMNS와 같은 목록)
+    private static final String COPY_COLUMN_LIST = "desertion_no, " + String.join(", ", AnimalJdbcItemWriter.COLUMNS)
+            + ", content_hash, last_sync_run, create_at, update_at";
+
+    private static final String SELECT_ARCHIVE = "SELECT desertion_no, up_kind_nm, kind_nm, sex_cd, neuter_yn, age,"
+            + " weight, color_cd, happen_dt, notice_sdt, notice_edt, process_state, popfile1, care_nm, org_nm,"
+            + " create_at, archived_at FROM " + TABLE;
+
+    private static final RowMapper<AnimalArchiveResponse> ARCHIVE_MAPPER = (rs, rowNum) -> new AnimalArchiveResponse(
+            rs.getString("desertion_no"),
+            rs.getString("up_kind_nm"),
+            rs.getString("kind_nm"),
+            rs.getString("sex_cd"),
+            rs.getString("neuter_yn"),
+            rs.getString("age"),
+            rs.getString("weight"),
+            rs.getString("color_cd"),
+            rs.getString("happen_dt"),
+            rs.getString("notice_sdt"),
+            rs.getString("notice_edt"),
+            rs.getString("process_state"),
+            rs.getString("popfile1"),
+            rs.getString("care_nm"),
+            rs.getString("org_nm"),
+            rs.getObject("create_at", LocalDateTime.class),
+            rs.getObject("archived_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 테이블이 없으면 생성한다. (처음에는 p_max 파티션 하나만 만들고 월 파티션은 ensurePartitions로 추가)
+     */
+    public void ensureTable() {
+        String columns = AnimalJdbcItemWriter.COLUMNS.stream()
+                .map(c -> c + " " + columnType(c))
+                .collect(Collectors.joining(", "));
+
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "desertion_no VARCHAR(255) NOT NULL, "
+                + columns + ", "
+                + "content_hash BIGINT NULL, last_sync_run BIGINT NULL, "
+                + "create_at DATETIME(6) NULL, update_at DATETIME(6) NULL, "
+                + "archived_at DATETIME(6) NOT NULL, archive_run BIGINT NOT NULL, "
+                + "PRIMARY KEY (desertion_no, archived_at), "
+                + "KEY idx_archive_archived_at (archived_at), "
+                + "KEY idx_archive_kind_archived (up_kind_nm, archived_at), "
+                + "KEY idx_archive_state_archived (process_state, archived_at), "
+                + "KEY idx_archive_org_archived (org_nm, archived_at), "
+                + "KEY idx_archive_run (archive_run)"
+                + ") PARTITION BY RANGE COLUMNS(archived_at) ("
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    /**
+     * from이 속한 월부터 to가 속한 월까지의 월 파티션이 없으면 p_max를 나눠서 추가한다.
+     * 이미 있는 월은 건너뛰며, p_max가 비어 있으면 데이터 이동 없이 메타데이터만 바뀐다.
+     *
+     * @return 새로 추가한 파티션 수
+     */
+    public int ensurePartitions(YearMonth from, YearMonth to) {
+        Set<String> existing = new HashSet<>(jdbcTemplate.getJdbcTemplate().queryForList(
+                "SELECT partition_name FROM information_schema.partitions"
+                        + " WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                String.class, TABLE));
+
+        // 마지막 월 파티션보다 앞의 월은 RANGE 순서상 추가할 수 없으므로 건너뜀 (그 기간의 데이터는 다음 파티션에 저장됨)
+        String last = existing.stream().filter(name -> !name.equals(MAX_PARTITION)).max(String::compareTo).orElse("");
+
+        int added = 0;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            if (existing.contains(name) || name.compareTo(last) <= 0) {
+                continue;
+            }
+            jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + TABLE
+                    + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            last = name;
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * 이번 실행 번호가 기록되지 않았고 보존 대상 상태가 아닌 운영 테이블 행을 보관 테이블에 복사한다.
+     * (AnimalsRepository.deleteNotSyncedIn의 삭제 조건과 동일)
+     *
+     * @return 보관한 행 수
+     */
+    public int archiveDeparted(long syncRunId, String keepProcessState, LocalDateTime archivedAt) {
+        return jdbcTemplate.update("INSERT INTO " + TABLE + " (" + COPY_COLUMN_LIST + ", archived_at, archive_run)"
+                        + " SELECT " + COPY_COLUMN_LIST + ", :archivedAt, :syncRunId FROM " + AnimalStagingRepository.LIVE_TABLE
+                        + " WHERE (last_sync_run IS NULL OR last_sync_run < :syncRunId)"
+                        + " AND (process_state IS NULL OR process_state <> :keepProcessState)",
+                new MapSqlParameterSource()
+                        .addValue("archivedAt", Timestamp.valueOf(archivedAt))
+                        .addValue("syncRunId", syncRunId)
+                        .addValue("keepProcessState", keepProcessState));
+    }
+
+    /**
+     * 스테이징 테이블에 없는 운영 테이블 행(= 테이블 교체로 사라지는 행)을 보관 테이블에 복사한다.
+     * 보존 대상은 restoreFromLive로 이미 스테이징에 복사되어 있으므로 restoreFromLive 이후, 교체 직전에 호출한다.
+     *
+     * @return 보관한 행 수
+     */
+    public int archiveMissingFromStaging(long syncRunId, LocalDateTime archivedAt) {
+        String live = AnimalStagingRepository.LIVE_TABLE;
+        String staging = AnimalStagingRepository.STAGING_TABLE;
+        return jdbcTemplate.update("INSERT INTO " + TABLE + " (" + COPY_COLUMN_LIST + ", archived_at, archive_run)"
+                        + " SELECT " + COPY_COLUMN_LIST + ", :archivedAt, :syncRunId FROM " + live + " a"
+                        + " WHERE NOT EXISTS (SELECT 1 FROM " + staging + " s WHERE s.desertion_no = a.desertion_no)",
+                new MapSqlParameterSource()
+                        .addValue("archivedAt", Timestamp.valueOf(archivedAt))
+                        .addValue("syncRunId", syncRunId));
+    }
+
+    /**
+     * 해당 동기화 실행에서 보관한 기록이 있는지 확인한다. (교체 Step 재시작 시 같은 데이터를 두 번 보관하지 않기 위해 사용)
+     */
+    public boolean hasArchived(long syncRunId) {
+        Integer count = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM " + TABLE
+                + " WHERE archive_run = ? LIMIT 1) t", Integer.class, syncRunId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 조건에 맞는 보관 기록을 보관 시각 최신순으로 cursor 다음 위치부터 limit건 조회한다.
+     * 정렬 키는 (archived_at DESC, desertion_no DESC)이며, 보관 기간 조건이 있으면 해당 월 파티션만 읽는다.
+     *
+     * @param condition 조회 조건
+     * @param cursor    이전 페이지 마지막 행 (첫 페이지면 null)
+     * @param limit     조회할 최대 행 수
+     */
+    public List<AnimalArchiveResponse> findPage(AnimalArchiveCondition condition, AnimalArchiveCursor cursor, int limit) {
+        List<String> where = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        equalTo(where, params, "desertion_no", "desertionNo", condition.desertionNo());
+        equalTo(where, params, "up_kind_nm", "upKindNm", condition.upKindNm());
+        equalTo(where, params, "kind_nm", "kindNm", condition.kindNm());
+        equalTo(where, params, "process_state", "processState", condition.processState());
+        equalTo(where, params, "org_nm", "orgNm", condition.orgNm());
+
+        // 보관일 범위 (archivedTo는 해당 일 전체 포함)
+        LocalDate from = condition.archivedFrom();
+        LocalDate to = condition.archivedTo();
+        if (from != null) {
+            where.add("archived_at >= :archivedFrom");
+            params.addValue("archivedFrom", Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            where.add("archived_at < :archivedTo");
+            params.addValue("archivedTo", Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+
+        // keyset: 정렬 순서상 cursor보다 뒤에 있는 행
+        if (cursor != null) {
+            where.add("(archived_at < :cursorAt OR (archived_at = :cursorAt AND desertion_no < :cursorNo))");
+            params.addValue("cursorAt", Timestamp.valueOf(cursor.archivedAt()));
+            params.addValue("cursorNo", cursor.desertionNo());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_ARCHIVE);
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+        sql.append(" ORDER BY archived_at DESC, desertion_no DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, ARCHIVE_MAPPER);
+    }
+
+    // 운영 테이블(AnimalsEntity)의 컬럼 정의와 같은 타입
+    private static String columnType(String column) {
+        return switch (column) {
+            case "sex_cd", "neuter_yn" -> "VARCHAR(1) NULL";
+            case "special_mark", "etc_bigo" -> "TEXT NULL";
+            case "happen_date", "notice_start_date", "notice_end_date" -> "DATE NULL";
+            case "weight_grams", "birth_year" -> "INT NULL";
+            default -> "VARCHAR(255) NULL";
+        };
+    }
+
+    private static void equalTo(List<String> where, MapSqlParameterSource params, String column, String name, String value) {
+        if (StringUtils.hasText(value)) {
+            where.add(column + " = :" + name);
+            params.addValue(name, value);
+        }
+    }
+}
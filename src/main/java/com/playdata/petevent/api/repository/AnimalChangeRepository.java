@@ -0,0 +1,174 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.dto.AnimalChangeResponse;
+import com.playdata.petevent.api.entity.AnimalChangeEntity.ChangeType;
+import com.playdata.petevent.api.outbox.AnimalChangeNotifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유기동물 변경 기록(animal_change_outbox) 관리 (JdbcTemplate)
+
+ * - append: Writer가 Chunk 트랜잭션 안에서 신규/변경 기록을 배치 INSERT
+ * - appendDeparted: 삭제 처리 직전에 삭제 대상을 INSERT ... SELECT 한 번으로 기록
+ * - appendStagingDiff: 테이블 교체 직전에 스테이징/운영 테이블 차이를 기록
+ * - findAfter: cursor(id) 이후의 기록을 순서대로 조회 (PK 범위 조회)
+ * - create_at은 모든 경로에서 DB 시계(NOW())로 기록 (애플리케이션 서버와 DB 시계가 섞이지 않도록)
+
+ * 파티션 Step처럼 여러 Chunk 트랜잭션이 동시에 기록하면 AUTO_INCREMENT id 순서와 커밋 순서가 달라질 수 있다.
+ * (id N+1이 먼저 커밋되어 구독자의 cursor가 넘어간 뒤 id N이 커밋되면 영영 전달되지 않음)
+ * 이를 막기 위해 모든 기록 전에 잠금 행(animal_change_outbox_lock)을 UPDATE해서 커밋까지 잠금을 유지한다.
+ * Writer에서는 기록이 Chunk 트랜잭션의 마지막 작업이므로 잠금을 기다리는 구간은 커밋 직전의 짧은 구간뿐이다.
+
+ * 기록한 트랜잭션이 커밋되면 AnimalChangeNotifier로 대기 중인 구독자를 깨운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalChangeRepository {
+
+    private static final String TABLE = "animal_change_outbox";
+
+    private static final String LOCK_TABLE = "animal_change_outbox_lock";
+
+    private static final String LOCK_SQL = "UPDATE " + LOCK_TABLE + " SET write_count = write_count + 1 WHERE id = 1";
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE
+            + " (desertion_no, change_type, changed_fields, sync_run_id, create_at) VALUES (?, ?, ?, ?, NOW())";
+
+    private static final RowMapper<AnimalChangeResponse> CHANGE_MAPPER = (rs, rowNum) -> new AnimalChangeResponse(
+            rs.getLong("id"),
+            rs.getString("desertion_no"),
+            rs.getString("change_type"),
+            rs.getString("changed_fields") == null ? null : Arrays.asList(rs.getString("changed_fields").split(",")),
+            rs.getObject("sync_run_id", Long.class),
+            rs.getTimestamp("create_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AnimalChangeNotifier notifier;
+
+    /**
+     * 변경 기록을 배치 INSERT 한다. 호출한 쪽 트랜잭션(Chunk)에 참여한다.
+     */
+    public void append(List<Change> changes, long syncRunId) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        lockForWrite();
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.desertionNo());
+            ps.setString(2, change.type().name());
+            ps.setString(3, change.changedFields() == null ? null : String.join(",", change.changedFields()));
+            ps.setLong(4, syncRunId);
+        });
+        notifier.signalAfterCommit();
+    }
+
+    /**
+     * AnimalsRepository.deleteNotSyncedIn으로 삭제될 데이터를 DELETED로 기록한다.
+     * 삭제와 같은 트랜잭션에서 삭제 직전에 호출해야 한다.
+     *
+     * @return 기록한 행 수
+     */
+    public int appendDeparted(long syncRunId, String keepProcessState) {
+        lockForWrite();
+        int appended = jdbcTemplate.update("INSERT INTO " + TABLE
+                        + " (desertion_no, change_type, changed_fields, sync_run_id, create_at)"
+                        + " SELECT desertion_no, ?, NULL, ?, NOW() FROM abandoned_animals"
+                        + " WHERE (last_sync_run IS NULL OR last_sync_run < ?)"
+                        + " AND (process_state IS NULL OR process_state <> ?)",
+                ChangeType.DELETED.name(), syncRunId, syncRunId, keepProcessState);
+        notifier.signalAfterCommit();
+        return appended;
+    }
+
+    /**
+     * 스테이징 테이블을 운영 테이블로 교체하기 전에 두 테이블의 차이를 기록한다.
+     * - 스테이징에만 있음: INSERTED / 운영 테이블에만 있음: DELETED / 지문이 다름: UPDATED (바뀐 필드는 알 수 없음)
+     * 교체(RENAME TABLE)가 암묵적으로 커밋하므로 교체 직전에 호출한다.
+     *
+     * @return 기록한 행 수
+     */
+    public int appendStagingDiff(long syncRunId) {
+        String staging = AnimalStagingRepository.STAGING_TABLE;
+        String live = AnimalStagingRepository.LIVE_TABLE;
+        String insert = "INSERT INTO " + TABLE + " (desertion_no, change_type, changed_fields, sync_run_id, create_at) ";
+        lockForWrite();
+
+        int appended = jdbcTemplate.update(insert + "SELECT s.desertion_no, ?, NULL, ?, NOW() FROM " + staging + " s"
+                + " WHERE NOT EXISTS (SELECT 1 FROM " + live + " a WHERE a.desertion_no = s.desertion_no)",
+                ChangeType.INSERTED.name(), syncRunId);
+        appended += jdbcTemplate.update(insert + "SELECT s.desertion_no, ?, NULL, ?, NOW() FROM " + staging + " s"
+                + " JOIN " + live + " a ON a.desertion_no = s.desertion_no"
+                + " WHERE NOT (s.content_hash <=> a.content_hash)",
+                ChangeType.UPDATED.name(), syncRunId);
+        appended += jdbcTemplate.update(insert + "SELECT a.desertion_no, ?, NULL, ?, NOW() FROM " + live + " a"
+                + " WHERE NOT EXISTS (SELECT 1 FROM " + staging + " s WHERE s.desertion_no = a.desertion_no)",
+                ChangeType.DELETED.name(), syncRunId);
+        notifier.signalAfterCommit();
+        return appended;
+    }
+
+    /**
+     * 잠금 행이 없으면 만든다. (애플리케이션 시작 시 한 번 호출)
+     */
+    public void ensureWriteLock() {
+        Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + LOCK_TABLE + " WHERE id = 1", Integer.class);
+        if (exists == null || exists == 0) {
+            jdbcTemplate.update("INSERT IGNORE INTO " + LOCK_TABLE + " (id, write_count) VALUES (1, 0)");
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋(또는 롤백)될 때까지 변경 기록 쓰기 잠금을 잡는다.
+     * 잠금 행이 없으면(시작 시 생성 실패) 만든 뒤 다시 잠근다.
+     */
+    private void lockForWrite() {
+        if (jdbcTemplate.update(LOCK_SQL) == 0) {
+            ensureWriteLock();
+            jdbcTemplate.update(LOCK_SQL);
+        }
+    }
+
+    /**
+     * 해당 동기화 실행에서 기록한 변경이 있는지 확인한다.
+     * fullRefreshAnimalJob은 교체 직전에만 기록하므로, 교체 Step을 재시작할 때 같은 차이를 두 번 기록하지 않기 위해 사용한다.
+     */
+    public boolean hasChanges(long syncRunId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM " + TABLE
+                + " WHERE sync_run_id = ? LIMIT 1) t", Integer.class, syncRunId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * afterId 다음 기록부터 최대 limit건을 순서대로 조회한다.
+     */
+    public List<AnimalChangeResponse> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT id, desertion_no, change_type, changed_fields, sync_run_id, create_at"
+                + " FROM " + TABLE + " WHERE id > ? ORDER BY id LIMIT ?", CHANGE_MAPPER, afterId, limit);
+    }
+
+    /**
+     * 보관 기간이 지난 기록을 삭제한다.
+     * create_at을 DB 시계(NOW())로 기록하므로 기준 시각도 DB에서 계산한다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int purgeOlderThan(Duration retention) {
+        return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE create_at < TIMESTAMPADD(SECOND, ?, NOW())",
+                -retention.toSeconds());
+    }
+
+    /**
+     * Writer가 기록할 변경 한 건.
+     *
+     * @param changedFields 바뀐 필드 이름 (UPDATED만 해당, 알 수 없으면 null)
+     */
+    public record Change(String desertionNo, ChangeType type, List<String> changedFields) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.facet.AnimalFacets;
+import com.playdata.petevent.api.facet.FacetDelta;
+import com.playdata.petevent.api.facet.FacetDimension;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유기동물 집계 건수(animal_facet_count) 관리 (JdbcTemplate)
+
+ * - apply: 변경분을 INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번으로 더함 (호출한 쪽 트랜잭션에 참여)
+ * - findFacets: 변경될 기존 데이터의 집계 값 조회 (JDBC Writer용)
+ * - departedFacets: 삭제 대상 데이터의 집계 값을 GROUP BY로 모아 변경분으로 반환 (삭제 건수에 비례)
+ * - rebuild: abandoned_animals 전체를 다시 집계 (최초 실행, 테이블 교체 후)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalFacetRepository {
+
+    private static final String TABLE = "animal_facet_count";
+
+    private static final String UPSERT_SQL = "INSERT INTO " + TABLE + " (dimension, facet_value, animal_count)"
+            + " VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE animal_count = animal_count + VALUES(animal_count)";
+
+    // 집계 항목의 원본 컬럼 (공고 주차는 notice_sdt에서 계산)
+    private static final String GROUP_COLUMNS = "up_kind_nm, sex_cd, neuter_yn, process_state, org_nm, notice_sdt";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경분을 집계 테이블에 반영한다.
+     */
+    public void apply(FacetDelta delta) {
+        List<Map.Entry<FacetDelta.FacetKey, Long>> entries = delta.entries();
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey().dimension().key());
+            ps.setString(2, entry.getKey().value());
+            ps.setLong(3, entry.getValue());
+        });
+    }
+
+    /**
+     * 기존 데이터의 집계 값을 조회한다.
+     *
+     * @return 유기번호 → 집계 값 (DB에 없는 유기번호는 포함되지 않음)
+     */
+    public Map<String, AnimalFacets> findFacets(Collection<String> desertionNos) {
+        if (desertionNos.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(desertionNos.size(), "?"));
+        Map<String, AnimalFacets> result = new HashMap<>();
+        jdbcTemplate.query("SELECT desertion_no, " + GROUP_COLUMNS + " FROM abandoned_animals"
+                + " WHERE desertion_no IN (" + placeholders + ")", rs -> {
+            result.put(rs.getString("desertion_no"), AnimalFacets.of(rs.getString("up_kind_nm"),
+                    rs.getString("sex_cd"), rs.getString("neuter_yn"), rs.getString("process_state"),
+                    rs.getString("org_nm"), rs.getString("notice_sdt")));
+        }, desertionNos.toArray());
+        return result;
+    }
+
+    /**
+     * AnimalsRepository.deleteNotSyncedIn으로 삭제될 데이터의 집계 값을 빼는 변경분.
+     * 삭제와 같은 트랜잭션에서 삭제 직전에 호출해야 한다.
+     */
+    public FacetDelta departedFacets(long syncRunId, String keepProcessState) {
+        return groupedFacets(" WHERE (last_sync_run IS NULL OR last_sync_run < ?)"
+                + " AND (process_state IS NULL OR process_state <> ?)", -1, syncRunId, keepProcessState);
+    }
+
+    /**
+     * 집계 테이블을 비우고 abandoned_animals 전체를 다시 집계한다.
+     */
+    public void rebuild() {
+        FacetDelta all = groupedFacets("", 1);
+        jdbcTemplate.update("DELETE FROM " + TABLE);
+        apply(all);
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM " + TABLE + " LIMIT 1").isEmpty();
+    }
+
+    /**
+     * 항목별 값 → 건수 (0건인 값은 제외, 건수가 많은 순)
+     */
+    public Map<FacetDimension, Map<String, Long>> findAll() {
+        Map<String, FacetDimension> byKey = new LinkedHashMap<>();
+        for (FacetDimension dimension : FacetDimension.values()) {
+            byKey.put(dimension.key(), dimension);
+        }
+
+        Map<FacetDimension, Map<String, Long>> result = new EnumMap<>(FacetDimension.class);
+        jdbcTemplate.query("SELECT dimension, facet_value, animal_count FROM " + TABLE
+                + " WHERE animal_count > 0 ORDER BY dimension, animal_count DESC, facet_value", rs -> {
+            FacetDimension dimension = byKey.get(rs.getString("dimension"));
+            if (dimension != null) {
+                result.computeIfAbsent(dimension, d -> new LinkedHashMap<>())
+                        .put(rs.getString("facet_value"), rs.getLong("animal_count"));
+            }
+        });
+        return result;
+    }
+
+    // 원본 컬럼 조합별 건수를 sign 방향의 변경분으로 변환
+    private FacetDelta groupedFacets(String where, int sign, Object... args) {
+        FacetDelta delta = new FacetDelta();
+        jdbcTemplate.query("SELECT " + GROUP_COLUMNS + ", COUNT(*) AS cnt FROM abandoned_animals" + where
+                + " GROUP BY " + GROUP_COLUMNS, rs -> {
+            AnimalFacets facets = AnimalFacets.of(rs.getString("up_kind_nm"), rs.getString("sex_cd"),
+                    rs.getString("neuter_yn"), rs.getString("process_state"), rs.getString("org_nm"),
+                    rs.getString("notice_sdt"));
+            delta.apply(facets, sign * rs.getLong("cnt"));
+        }, args);
+        return delta;
+    }
+}
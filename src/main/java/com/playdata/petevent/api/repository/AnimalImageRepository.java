@@ -0,0 +1,155 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.entity.AnimalImageEntity.ImageStatus;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유기동물 이미지 썸네일 상태(animal_image) 관리 (JdbcTemplate)
+
+ * - findPending: 썸네일이 없거나 원본 URL이 바뀐 이미지, 다시 요청된 이미지를 유기번호 순서로 조회 (PK 범위 조회)
+ * - save: 다운로드 결과를 INSERT ... ON DUPLICATE KEY UPDATE로 기록
+ * - findImage: 조회 API용 현재 원본 URL + 썸네일 해시
+ * - markEvicted / requestRefetch: 용량 상한으로 삭제된 썸네일 표시, 조회 요청 시 다시 내려받도록 표시
+ * - deleteOrphans / findReferencedHashes: 삭제된 유기동물의 기록 정리, 사용 중인 썸네일 목록 (가비지 컬렉션)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalImageRepository {
+
+    private static final String TABLE = "animal_image";
+
+    private static final String UPSERT_SQL = "INSERT INTO " + TABLE
+            + " (desertion_no, slot, source_url, thumbnail_hash, status, update_at) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE source_url = VALUES(source_url), thumbnail_hash = VALUES(thumbnail_hash),"
+            + " status = VALUES(status), update_at = VALUES(update_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * afterDesertionNo 다음 유기번호부터 썸네일을 (다시) 만들어야 하는 이미지를 최대 limit건 조회한다.
+     * - animal_image에 기록이 없거나, 기록된 원본 URL이 현재 popfile과 다르거나, REQUESTED 상태인 이미지
+     * - FAILED는 원본 URL이 바뀔 때까지 다시 시도하지 않음
+     *
+     * @param slot 이미지 순번 (1: popfile1, 2: popfile2)
+     */
+    public List<PendingImage> findPending(int slot, String afterDesertionNo, int limit) {
+        String popfile = popfileColumn(slot);
+        return jdbcTemplate.query("SELECT a.desertion_no, a." + popfile + " AS source_url FROM abandoned_animals a"
+                        + " LEFT JOIN " + TABLE + " i ON i.desertion_no = a.desertion_no AND i.slot = ?"
+                        + " WHERE a.desertion_no > ? AND a." + popfile + " IS NOT NULL AND a." + popfile + " <> ''"
+                        + " AND (i.source_url IS NULL OR i.source_url <> a." + popfile + " OR i.status = ?)"
+                        + " ORDER BY a.desertion_no LIMIT ?",
+                (rs, rowNum) -> new PendingImage(rs.getString("desertion_no"), slot, rs.getString("source_url")),
+                slot, afterDesertionNo, ImageStatus.REQUESTED.name(), limit);
+    }
+
+    /**
+     * 다운로드 결과를 기록한다.
+     *
+     * @param thumbnailHash 썸네일 해시 (실패하면 null)
+     */
+    public void save(PendingImage image, String thumbnailHash, ImageStatus status) {
+        jdbcTemplate.update(UPSERT_SQL, image.desertionNo(), image.slot(), image.sourceUrl(), thumbnailHash,
+                status.name(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 유기동물의 현재 이미지 URL과 썸네일을 조회한다.
+     * 기록된 원본 URL이 현재 popfile과 다르면(아직 새 이미지를 내려받지 않음) 썸네일 정보는 비워서 반환한다.
+     *
+     * @return 유기동물이 없거나 해당 순번의 이미지가 없으면 empty
+     */
+    public Optional<ImageRef> findImage(String desertionNo, int slot) {
+        String popfile = popfileColumn(slot);
+        List<ImageRef> found = jdbcTemplate.query("SELECT a." + popfile + " AS source_url, i.thumbnail_hash, i.status"
+                        + " FROM abandoned_animals a"
+                        + " LEFT JOIN " + TABLE + " i ON i.desertion_no = a.desertion_no AND i.slot = ?"
+                        + " AND i.source_url = a." + popfile
+                        + " WHERE a.desertion_no = ? AND a." + popfile + " IS NOT NULL AND a." + popfile + " <> ''",
+                (rs, rowNum) -> new ImageRef(rs.getString("source_url"), rs.getString("thumbnail_hash"),
+                        rs.getString("status") == null ? null : ImageStatus.valueOf(rs.getString("status"))),
+                slot, desertionNo);
+        return found.stream().findFirst();
+    }
+
+    /**
+     * 조회 요청이 들어온 이미지를 다음 썸네일 생성 때 다시 내려받도록 표시한다.
+     * (용량 상한으로 삭제되었거나 파일이 사라진 경우)
+     *
+     * @return 표시된 행 수
+     */
+    public int requestRefetch(String desertionNo, int slot) {
+        return jdbcTemplate.update("UPDATE " + TABLE + " SET status = ?, update_at = ?"
+                        + " WHERE desertion_no = ? AND slot = ? AND status IN (?, ?)",
+                ImageStatus.REQUESTED.name(), Timestamp.valueOf(LocalDateTime.now()), desertionNo, slot,
+                ImageStatus.READY.name(), ImageStatus.EVICTED.name());
+    }
+
+    /**
+     * 용량 상한으로 파일이 삭제된 썸네일을 EVICTED로 표시한다.
+     */
+    public void markEvicted(Collection<String> thumbnailHashes) {
+        if (thumbnailHashes.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(thumbnailHashes.size(), "?"));
+        Object[] params = new Object[thumbnailHashes.size() + 1];
+        params[0] = ImageStatus.EVICTED.name();
+        int i = 1;
+        for (String hash : thumbnailHashes) {
+            params[i++] = hash;
+        }
+        jdbcTemplate.update("UPDATE " + TABLE + " SET status = ?"
+                + " WHERE thumbnail_hash IN (" + placeholders + ")", params);
+    }
+
+    /**
+     * abandoned_animals에서 삭제된 유기동물의 이미지 기록을 삭제한다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE NOT EXISTS"
+                + " (SELECT 1 FROM abandoned_animals a WHERE a.desertion_no = " + TABLE + ".desertion_no)");
+    }
+
+    /**
+     * 기록이 남아 있는 썸네일 해시 (이 목록에 없는 썸네일 파일은 삭제 대상)
+     */
+    public Set<String> findReferencedHashes() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT DISTINCT thumbnail_hash FROM " + TABLE
+                + " WHERE thumbnail_hash IS NOT NULL", String.class));
+    }
+
+    private static String popfileColumn(int slot) {
+        if (slot != 1 && slot != 2) {
+            throw new IllegalArgumentException("이미지 순번은 1 또는 2: " + slot);
+        }
+        return "popfile" + slot;
+    }
+
+    /**
+     * 썸네일을 만들 이미지 한 건.
+     */
+    public record PendingImage(String desertionNo, int slot, String sourceUrl) {
+    }
+
+    /**
+     * 유기동물의 현재 이미지.
+     *
+     * @param thumbnailHash 현재 원본 URL로 만든 썸네일 해시 (없으면 null)
+     * @param status        썸네일 상태 (현재 원본 URL의 기록이 없으면 null)
+     */
+    public record ImageRef(String sourceUrl, String thumbnailHash, ImageStatus status) {
+    }
+}
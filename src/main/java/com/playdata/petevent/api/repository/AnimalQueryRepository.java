@@ -0,0 +1,147 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.dto.AnimalCursor;
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.AnimalSummaryResponse;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 유기동물 목록 조회 (NamedParameterJdbcTemplate)
+
+ * - 목록 화면에 필요한 컬럼만 SELECT (엔티티/TEXT 컬럼을 읽지 않음)
+ * - 정렬 키는 (notice_sdt DESC, desertion_no DESC)로 고정해 같은 공고일 안에서도 순서가 항상 같음
+ * - OFFSET 대신 이전 페이지 마지막 행의 정렬 키보다 뒤에 있는 행만 조회 (keyset 페이지네이션)
+ *   → 몇 번째 페이지든 인덱스에서 cursor 위치부터 size + 1건만 읽음
+ * - 등호 조건 + 정렬 키 순서의 복합 인덱스는 AnimalsEntity @Table 참고
+ *   - 보호 상태, 축종, 품종, 지자체, 보호소, 보호 상태 + 축종: (조건 컬럼, notice_sdt, desertion_no) 순서의 인덱스를
+ *     정렬 순서대로 읽으므로 정렬 없이 cursor 위치부터 LIMIT건만 읽음
+ *   - 성별, 중성화: 값 종류가 2~3개뿐이라 인덱스를 두지 않음 (동기화마다 쓰기 비용만 늘어남).
+ *     notice_sdt 인덱스를 정렬 순서대로 읽으면서 걸러내며, 조건에 맞는 비율이 높아 몇 배 이상 더 읽지 않음
+ *   - 여러 조건을 함께 쓰면 그중 하나의 인덱스를 따라 읽으면서 나머지 조건을 걸러냄
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalQueryRepository {
+
+    private static final DateTimeFormatter NOTICE_DATE = DateTimeFormatter.BASIC_ISO_DATE; // API 값과 같은 yyyyMMdd
+
+    // 목록 화면에 필요한 컬럼 (AnimalSummaryResponse)
+    static final String SUMMARY_COLUMNS = "desertion_no, up_kind_nm, kind_nm, sex_cd, neuter_yn, age, weight,"
+            + " color_cd, notice_sdt, notice_edt, process_state, popfile1, care_nm, org_nm";
+
+    private static final String SELECT_SUMMARY = "SELECT " + SUMMARY_COLUMNS + " FROM abandoned_animals";
+
+    static final RowMapper<AnimalSummaryResponse> SUMMARY_MAPPER = (rs, rowNum) -> new AnimalSummaryResponse(
+            rs.getString("desertion_no"),
+            rs.getString("up_kind_nm"),
+            rs.getString("kind_nm"),
+            rs.getString("sex_cd"),
+            rs.getString("neuter_yn"),
+            rs.getString("age"),
+            rs.getString("weight"),
+            rs.getString("color_cd"),
+            rs.getString("notice_sdt"),
+            rs.getString("notice_edt"),
+            rs.getString("process_state"),
+            rs.getString("popfile1"),
+            rs.getString("care_nm"),
+            rs.getString("org_nm"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 유기동물을 cursor 다음 위치부터 limit건 조회한다.
+     *
+     * @param condition 조회 조건
+     * @param cursor    이전 페이지 마지막 행 (첫 페이지면 null)
+     * @param limit     조회할 최대 행 수
+     */
+    public List<AnimalSummaryResponse> findPage(AnimalSearchCondition condition, AnimalCursor cursor, int limit) {
+        List<String> where = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        addFilters(condition, where, params);
+
+        // keyset: 정렬 순서상 cursor보다 뒤에 있는 행 (DESC 정렬에서 NULL은 가장 뒤)
+        if (cursor != null) {
+            params.addValue("cursorNo", cursor.desertionNo());
+            if (cursor.noticeSdt() == null) {
+                where.add("(notice_sdt IS NULL AND desertion_no < :cursorNo)");
+            } else {
+                where.add("(notice_sdt < :cursorNotice"
+                        + " OR (notice_sdt = :cursorNotice AND desertion_no < :cursorNo)"
+                        + " OR notice_sdt IS NULL)");
+                params.addValue("cursorNotice", cursor.noticeSdt());
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+        sql.append(" ORDER BY notice_sdt DESC, desertion_no DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, SUMMARY_MAPPER);
+    }
+
+    /**
+     * 구조화된 조회 조건(축종, 품종, 성별, 중성화, 보호 상태, 지자체, 보호소, 공고 시작일 범위,
+     * 공고 종료일/체중/출생 연도 범위)을 WHERE 조건으로 추가한다.
+     * 전문 검색(AnimalSearchRepository)에서도 같은 조건을 사용한다.
+     */
+    static void addFilters(AnimalSearchCondition condition, List<String> where, MapSqlParameterSource params) {
+        equalTo(where, params, "up_kind_nm", "upKindNm", condition.upKindNm());
+        equalTo(where, params, "kind_nm", "kindNm", condition.kindNm());
+        equalTo(where, params, "process_state", "processState", condition.processState());
+        equalTo(where, params, "org_nm", "orgNm", condition.orgNm());
+        equalTo(where, params, "care_nm", "careNm", condition.careNm());
+        if (condition.sexCd() != null) {
+            equalTo(where, params, "sex_cd", "sexCd", condition.sexCd().name());
+        }
+        if (condition.neuterYn() != null) {
+            equalTo(where, params, "neuter_yn", "neuterYn", condition.neuterYn().name());
+        }
+
+        // 공고 시작일 범위 (yyyyMMdd 문자열이므로 사전순 비교 = 날짜순 비교)
+        if (condition.noticeFrom() != null) {
+            where.add("notice_sdt >= :noticeFrom");
+            params.addValue("noticeFrom", condition.noticeFrom().format(NOTICE_DATE));
+        }
+        if (condition.noticeTo() != null) {
+            where.add("notice_sdt <= :noticeTo");
+            params.addValue("noticeTo", condition.noticeTo().format(NOTICE_DATE));
+        }
+
+        // 변환 컬럼 범위 (각 컬럼의 인덱스로 범위 조회)
+        between(where, params, "notice_end_date", "noticeEnd", condition.noticeEndFrom(), condition.noticeEndTo());
+        between(where, params, "weight_grams", "weightGrams", condition.minWeightGrams(), condition.maxWeightGrams());
+        between(where, params, "birth_year", "birthYear", condition.bornFrom(), condition.bornTo());
+    }
+
+    private static void between(List<String> where, MapSqlParameterSource params, String column, String name,
+                                Object from, Object to) {
+        if (from != null) {
+            where.add(column + " >= :" + name + "From");
+            params.addValue(name + "From", from);
+        }
+        if (to != null) {
+            where.add(column + " <= :" + name + "To");
+            params.addValue(name + "To", to);
+        }
+    }
+
+    private static void equalTo(List<String> where, MapSqlParameterSource params, String column, String name, String value) {
+        if (StringUtils.hasText(value)) {
+            where.add(column + " = :" + name);
+            params.addValue(name, value);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.AnimalSummaryResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 유기동물 전문 검색 (MySQL FULLTEXT + ngram 파서)
+
+ * - 품종, 털색, 발견 장소, 보호소 주소, 특이사항, 기타 비고를 하나의 FULLTEXT 인덱스로 검색
+ * - ngram 파서는 공백이 아닌 글자 단위(기본 2글자, ngram_token_size)로 토큰을 만들기 때문에
+ *   형태소 분석 없이도 한국어 부분 검색이 가능 (예: "말티즈" → "말티", "티즈")
+ * - LIKE '%...%'와 달리 인덱스에서 바로 후보를 찾고, MATCH 점수로 관련도 정렬
+ * - 구조화된 조건(축종, 보호 상태 등)은 목록 조회와 같은 WHERE 조건으로 함께 적용
+
+ * 인덱스는 JPA @Index로 만들 수 없으므로 애플리케이션 시작 시 ensureFullTextIndex로 생성한다.
+ * fullRefreshAnimalJob의 스테이징 테이블(CREATE TABLE ... LIKE)도 같은 인덱스를 가진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalSearchRepository {
+
+    public static final String FULLTEXT_INDEX = "ft_abandoned_animals_text";
+
+    // MATCH()의 컬럼 목록은 FULLTEXT 인덱스의 컬럼 목록과 정확히 같아야 함
+    private static final String FULLTEXT_COLUMNS = "kind_nm, color_cd, happen_place, care_addr, special_mark, etc_bigo";
+
+    private static final String MATCH = "MATCH(" + FULLTEXT_COLUMNS + ") AGAINST(:query IN BOOLEAN MODE)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * FULLTEXT 인덱스가 없으면 생성한다.
+     * 기존 데이터가 많으면 처음 한 번은 테이블 재구성 시간이 걸린다.
+     *
+     * @return 새로 생성했으면 true
+     */
+    public boolean ensureFullTextIndex() {
+        Integer exists = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics"
+                        + " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, AnimalStagingRepository.LIVE_TABLE, FULLTEXT_INDEX);
+        if (exists != null && exists > 0) {
+            return false;
+        }
+
+        jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + AnimalStagingRepository.LIVE_TABLE
+                + " ADD FULLTEXT INDEX " + FULLTEXT_INDEX + " (" + FULLTEXT_COLUMNS + ") WITH PARSER ngram");
+        return true;
+    }
+
+    /**
+     * 검색어와 조회 조건에 맞는 유기동물을 관련도 순으로 조회한다.
+     *
+     * @param booleanQuery BOOLEAN MODE 검색식 (예: +흰색 +말티즈)
+     * @param condition    함께 적용할 조회 조건 (cursor는 사용하지 않음)
+     * @param limit        조회할 최대 행 수
+     */
+    public List<AnimalSummaryResponse> search(String booleanQuery, AnimalSearchCondition condition, int limit) {
+        List<String> where = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("query", booleanQuery);
+        where.add(MATCH);
+        AnimalQueryRepository.addFilters(condition, where, params);
+        params.addValue("limit", limit);
+
+        // 같은 MATCH 식은 MySQL이 한 번만 계산 (WHERE와 ORDER BY에서 재사용)
+        String sql = "SELECT " + AnimalQueryRepository.SUMMARY_COLUMNS + ", " + MATCH + " AS score"
+                + " FROM abandoned_animals"
+                + " WHERE " + String.join(" AND ", where)
+                + " ORDER BY score DESC, desertion_no DESC LIMIT :limit";
+
+        return jdbcTemplate.query(sql, params, AnimalQueryRepository.SUMMARY_MAPPER);
+    }
+}
@@ -0,0 +1,94 @@
+package com.playdata.petevent.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * fullRefreshAnimalJob의 스테이징 테이블 관리 (JdbcTemplate)
+
+ * 흐름:
+ * 1. recreateStagingTable: abandoned_animals와 같은 구조(인덱스 포함)의 빈 스테이징 테이블 생성
+ * 2. (Step) API 전체 데이터를 스테이징 테이블에 배치 INSERT
+ * 3. restoreFromLive: 기존 테이블의 create_at/update_at 복원, API에 없는 보존 대상 데이터 복사
+ * 4. swap: RENAME TABLE 한 문장으로 두 테이블을 교체 (원자적이므로 조회 중인 쪽은 항상 완전한 테이블만 봄)
+
+ * MySQL의 DDL은 자동 커밋되므로 트랜잭션으로 묶이지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalStagingRepository {
+
+    public static final String LIVE_TABLE = "abandoned_animals";
+    public static final String STAGING_TABLE = "abandoned_animals_staging";
+    public static final String OLD_TABLE = "abandoned_animals_old";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이전 실행에서 남은 스테이징 테이블을 지우고 기존 테이블과 같은 구조로 새로 만든다.
+     */
+    public void recreateStagingTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + STAGING_TABLE + " LIKE " + LIVE_TABLE);
+    }
+
+    /**
+     * 스테이징 테이블이 있는지 확인한다.
+     * 적재가 끝난 뒤 스테이징 테이블이 없으면 이전 시도에서 이미 교체(RENAME)까지 끝난 것이다.
+     */
+    public boolean stagingExists() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables"
+                + " WHERE table_schema = DATABASE() AND table_name = ?", Integer.class, STAGING_TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 교체 후 삭제하지 못하고 남은 이전 테이블을 삭제한다.
+     */
+    public void dropOld() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_TABLE);
+    }
+
+    public long countStaging() {
+        return count(STAGING_TABLE);
+    }
+
+    public long countLive() {
+        return count(LIVE_TABLE);
+    }
+
+    /**
+     * 기존 테이블의 값을 스테이징 테이블로 옮긴다.
+     * - 이미 있던 유기동물은 create_at을 유지하고, 내용이 같으면 update_at도 유지
+     * - API에 없지만 보존 대상 상태(보호중)인 데이터는 그대로 복사 (동기화 Job의 삭제 규칙과 동일)
+     *
+     * @return 복사된 보존 대상 데이터 수
+     */
+    public int restoreFromLive(String keepProcessState) {
+        jdbcTemplate.update("UPDATE " + STAGING_TABLE + " s JOIN " + LIVE_TABLE + " a ON a.desertion_no = s.desertion_no"
+                + " SET s.create_at = a.create_at,"
+                + " s.update_at = CASE WHEN s.content_hash <=> a.content_hash THEN a.update_at ELSE s.update_at END");
+
+        return jdbcTemplate.update("INSERT INTO " + STAGING_TABLE + " SELECT a.* FROM " + LIVE_TABLE + " a"
+                + " WHERE a.process_state = ?"
+                + " AND NOT EXISTS (SELECT 1 FROM " + STAGING_TABLE + " s WHERE s.desertion_no = a.desertion_no)",
+                keepProcessState);
+    }
+
+    /**
+     * 스테이징 테이블을 운영 테이블로 교체하고 이전 테이블을 삭제한다.
+     * RENAME TABLE은 여러 테이블을 한 번에 원자적으로 바꾸므로 테이블이 없는 순간이 생기지 않는다.
+     */
+    public void swap() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + OLD_TABLE);
+        jdbcTemplate.execute("RENAME TABLE " + LIVE_TABLE + " TO " + OLD_TABLE + ", "
+                + STAGING_TABLE + " TO " + LIVE_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + OLD_TABLE);
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+}
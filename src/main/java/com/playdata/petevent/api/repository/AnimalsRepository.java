@@ -2,6 +2,14 @@ package com.playdata.petevent.api.repository;
 
 import com.playdata.petevent.api.entity.AnimalsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,4 +24,59 @@ public interface AnimalsRepository extends JpaRepository<AnimalsEntity, String>
      * @return Optional<AnimalsEntity> - 존재하면 동물 엔티티 반환
      */
     Optional<AnimalsEntity> findByDesertionNo(String desertionNo);
-}
\ No newline at end of file
+
+    /**
+     * 여러 유기번호의 내용 지문(contentHash)만 조회 (엔티티를 만들지 않음)
+     * @param desertionNos 조회할 유기번호 목록
+     * @return 유기번호와 지문 쌍 (DB에 없는 유기번호는 결과에 포함되지 않음)
+     */
+    @Query("select a.desertionNo as desertionNo, a.contentHash as contentHash "
+            + "from AnimalsEntity a where a.desertionNo in :desertionNos")
+    List<ContentHashView> findContentHashes(@Param("desertionNos") Collection<String> desertionNos);
+
+    /**
+     * findContentHashes 결과를 유기번호 → 지문 Map으로 변환
+     * 지문이 아직 계산되지 않은 기존 데이터는 값이 null로 들어감
+     */
+    default Map<String, Long> findContentHashMap(Collection<String> desertionNos) {
+        Map<String, Long> hashes = new HashMap<>();
+        for (ContentHashView view : findContentHashes(desertionNos)) {
+            hashes.put(view.getDesertionNo(), view.getContentHash());
+        }
+        return hashes;
+    }
+
+    /**
+     * 여러 유기번호에 이번 동기화 실행 번호를 기록 (UPDATE 한 번)
+     * 내용이 바뀌지 않아 INSERT/UPDATE 대상이 아닌 데이터도 "이번 API 결과에 있었다"는 표시를 남기기 위해 사용
+     * @param desertionNos 유기번호 목록
+     * @param syncRunId 동기화 실행 번호 (JobInstance id)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update AnimalsEntity a set a.lastSyncRun = :syncRunId where a.desertionNo in :desertionNos")
+    int markSynced(@Param("desertionNos") Collection<String> desertionNos, @Param("syncRunId") Long syncRunId);
+
+    /**
+     * 이번 동기화 실행 번호가 기록되지 않은(= 이번 API 결과에 없던) 데이터 중
+     * 보존 대상 상태(keepProcessState)가 아닌 데이터를 DELETE 한 번으로 삭제
+     * @param syncRunId 동기화 실행 번호 (JobInstance id)
+     * @param keepProcessState 삭제하지 않을 보호 상태 (예: 보호중)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AnimalsEntity a "
+            + "where (a.lastSyncRun is null or a.lastSyncRun < :syncRunId) "
+            + "and (a.processState is null or a.processState <> :keepProcessState)")
+    int deleteNotSyncedIn(@Param("syncRunId") Long syncRunId, @Param("keepProcessState") String keepProcessState);
+
+    /**
+     * 유기번호와 내용 지문만 담는 조회용 프로젝션
+     */
+    interface ContentHashView {
+        String getDesertionNo();
+        Long getContentHash();
+    }
+}
@@ -0,0 +1,18 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.entity.SyncSkipEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 동기화 skip 기록 Repository
+ */
+public interface SyncSkipRepository extends JpaRepository<SyncSkipEntity, Long> {
+
+    /**
+     * 특정 Job 실행에서 skip된 데이터 조회
+     * @param jobExecutionId JobExecution id
+     * @return skip 기록 목록
+     */
+    List<SyncSkipEntity> findByJobExecutionIdOrderByIdAsc(Long jobExecutionId);
+}
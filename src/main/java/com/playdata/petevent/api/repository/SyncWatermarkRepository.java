@@ -0,0 +1,10 @@
+package com.playdata.petevent.api.repository;
+
+import com.playdata.petevent.api.entity.SyncWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 동기화 워터마크 Repository (PK: Job 이름)
+ */
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermarkEntity, String> {
+}
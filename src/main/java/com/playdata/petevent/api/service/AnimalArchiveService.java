@@ -0,0 +1,18 @@
+package com.playdata.petevent.api.service;
+
+import com.playdata.petevent.api.dto.AnimalArchiveCondition;
+import com.playdata.petevent.api.dto.AnimalArchivePageResponse;
+
+public interface AnimalArchiveService {
+
+    /**
+     * 조건에 맞는 보관된(API에서 사라진) 유기동물 한 페이지를 보관 시각 최신순으로 조회한다.
+     * 다음 페이지는 응답의 nextCursor를 condition.cursor로 전달해 조회한다.
+     *
+     * @param condition 조회 조건
+     * @return 보관 기록과 다음 페이지 cursor
+     * @throws IllegalArgumentException cursor 형식이 올바르지 않거나 보관일 범위가 거꾸로 된 경우
+     */
+    AnimalArchivePageResponse search(AnimalArchiveCondition condition);
+
+}
@@ -0,0 +1,26 @@
+package com.playdata.petevent.api.service;
+
+import com.playdata.petevent.api.dto.AnimalChangePageResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AnimalChangeFeedService {
+
+    /**
+     * after 이후의 변경 기록을 최대 limit건 조회한다 (대기 없음).
+     *
+     * @param after 마지막으로 받은 기록 순번 (처음이면 0)
+     * @param limit 최대 건수 (animal.feed.batch-size를 넘을 수 없음)
+     */
+    AnimalChangePageResponse getChanges(long after, int limit);
+
+    /**
+     * after 이후의 변경 기록을 SSE로 계속 전송한다.
+     * - 이벤트 이름은 changes, 데이터는 변경 기록 배열(최대 batch-size건), 이벤트 id는 마지막 기록 순번
+     * - 새 변경이 없으면 커밋 알림이 올 때까지 대기하고, heartbeat 간격마다 주석 이벤트 전송
+     * - 전송이 끝나야 다음 배치를 조회하므로 느린 구독자 때문에 메모리에 기록이 쌓이지 않음
+     *
+     * @throws org.springframework.core.task.TaskRejectedException 구독자 수가 animal.feed.max-subscribers를 넘은 경우
+     */
+    SseEmitter subscribe(long after);
+
+}
@@ -0,0 +1,24 @@
+package com.playdata.petevent.api.service;
+
+import com.playdata.petevent.api.dto.FacetCountsResponse;
+
+public interface AnimalFacetService {
+
+    /**
+     * 메모리에 올려 둔 집계 건수를 반환한다 (DB 조회 없음).
+     */
+    FacetCountsResponse getFacets();
+
+    /**
+     * 집계 테이블을 다시 읽어 메모리의 집계 건수를 교체한다.
+     * 동기화 Step이 끝난 뒤 호출된다.
+     */
+    void refreshSnapshot();
+
+    /**
+     * abandoned_animals 전체를 다시 집계하고 메모리의 집계 건수를 교체한다.
+     * 집계 테이블이 비어 있는 최초 실행과 테이블 교체(fullRefreshAnimalJob) 후에 호출된다.
+     */
+    void rebuild();
+
+}
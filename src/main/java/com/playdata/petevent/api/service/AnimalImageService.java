@@ -0,0 +1,37 @@
+package com.playdata.petevent.api.service;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface AnimalImageService {
+
+    /**
+     * 썸네일이 없거나 원본 URL이 바뀐 이미지를 백그라운드에서 내려받아 썸네일로 만든다.
+     * 이미 실행 중이면 현재 작업이 끝난 뒤 한 번 더 실행한다. (동기화 Job 성공 후 호출)
+     */
+    void refreshAsync();
+
+    /**
+     * 유기동물 이미지의 이동할 주소를 반환한다.
+     * - 썸네일이 있으면 썸네일 주소 (/api/animals/images/{hash})
+     * - 아직 없거나 삭제되었으면 원본 URL (삭제된 썸네일은 다시 내려받도록 요청)
+     *
+     * @param slot 이미지 순번 (1: popfile1, 2: popfile2)
+     * @return 유기동물이 없거나 해당 순번의 이미지가 없으면 empty
+     */
+    Optional<String> resolveImageLocation(String desertionNo, int slot);
+
+    /**
+     * 썸네일 파일 경로 (최근 조회로 기록됨)
+     */
+    Optional<Path> findThumbnail(String hash);
+
+    /**
+     * 삭제된 유기동물의 이미지 기록을 정리하고, 어떤 기록도 가리키지 않는 썸네일 파일을 삭제한다.
+     * 동기화의 삭제 처리(AnimalStepListener) 또는 테이블 교체 후 호출된다.
+     *
+     * @return 삭제한 썸네일 파일 수
+     */
+    int collectGarbage();
+
+}
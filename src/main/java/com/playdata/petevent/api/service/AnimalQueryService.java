@@ -0,0 +1,37 @@
+package com.playdata.petevent.api.service;
+
+import com.playdata.petevent.api.dto.AnimalPageResponse;
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.CacheStatsResponse;
+
+public interface AnimalQueryService {
+
+    /**
+     * 조건에 맞는 유기동물 목록 한 페이지를 조회한다.
+     * 다음 페이지는 응답의 nextCursor를 condition.cursor로 전달해 조회한다.
+     * 결과는 다음 동기화가 끝날 때까지 캐시된다.
+     *
+     * @param condition 조회 조건
+     * @return 목록과 다음 페이지 cursor
+     * @throws IllegalArgumentException cursor 형식이 올바르지 않은 경우
+     */
+    AnimalPageResponse search(AnimalSearchCondition condition);
+
+    /**
+     * 검색어로 유기동물을 전문 검색한다 (품종, 털색, 발견 장소, 보호소 주소, 특이사항, 기타 비고).
+     * 공백으로 나눈 단어를 모두 포함하는 데이터를 관련도 순으로 최대 condition.size건 반환한다.
+     * condition의 다른 조회 조건도 함께 적용되며, cursor는 사용하지 않는다.
+     *
+     * @param keyword   검색어 (예: 흰색 말티즈 목걸이)
+     * @param condition 함께 적용할 조회 조건
+     * @return 검색 결과 (nextCursor는 항상 null)
+     * @throws IllegalArgumentException 검색어가 비어 있는 경우
+     */
+    AnimalPageResponse searchText(String keyword, AnimalSearchCondition condition);
+
+    /**
+     * 목록 조회 캐시의 적중/미스/제거 통계를 조회한다.
+     */
+    CacheStatsResponse cacheStats();
+
+}
@@ -0,0 +1,31 @@
+package com.playdata.petevent.api.service;
+
+public interface AnimalReconciliationService {
+
+    /**
+     * 보관 모드(animal.sync.departed-mode=archive)이면 보관 테이블과 이번 달/다음 달 파티션을 미리 만든다.
+     * 파티션 추가는 DDL(자동 커밋)이므로 removeDeparted 트랜잭션 밖에서 먼저 호출한다.
+     * 삭제 모드이면 아무것도 하지 않는다.
+     */
+    void prepareArchive();
+
+    /**
+     * 이번 동기화 실행에서 API에 나타나지 않은 유기동물 데이터를 정리한다.
+     * 보관 모드이면 같은 트랜잭션에서 보관 테이블에 복사한 뒤 삭제한다.
+     *
+     * @param syncRunId 이번 동기화 실행 번호 (JobInstance id)
+     * @return 삭제(보관)된 행 수
+     */
+    int removeDeparted(long syncRunId);
+
+    /**
+     * 보관 모드이면 스테이징 테이블에 없는 운영 테이블 데이터(테이블 교체로 사라지는 데이터)를 보관 테이블에 복사한다.
+     * fullRefreshAnimalJob에서 restoreFromLive 이후, 테이블 교체 직전에 호출한다.
+     * 같은 실행에서 이미 보관한 기록이 있으면(교체 Step 재시작) 다시 보관하지 않는다.
+     *
+     * @param syncRunId 이번 동기화 실행 번호 (JobInstance id)
+     * @return 보관한 행 수 (삭제 모드이거나 이미 보관했으면 0)
+     */
+    int archiveMissingFromStaging(long syncRunId);
+
+}
@@ -0,0 +1,30 @@
+package com.playdata.petevent.api.service;
+
+import com.playdata.petevent.api.batch.SyncMode;
+import com.playdata.petevent.api.dto.SyncStatusResponse;
+import java.util.Optional;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+
+public interface AnimalSyncService {
+
+    /**
+     * 유기동물 동기화 Job(syncAnimalJob / fullRefreshAnimalJob)을 비동기로 실행한다.
+     * Job 종료를 기다리지 않고 생성된 JobExecution을 바로 반환한다.
+     * DELTA를 요청했지만 워터마크가 없으면 FULL로 실행된다.
+     *
+     * @param mode 동기화 방식
+     * @return 시작된 JobExecution
+     * @throws SyncAlreadyRunningException 동기화 Job이 이미 실행 중인 경우
+     */
+    JobExecution runSync(SyncMode mode) throws JobExecutionException;
+
+    /**
+     * 동기화 Job 실행 상태와 진행 건수를 조회한다.
+     *
+     * @param jobExecutionId JobExecution id
+     * @return 없는 실행이면 empty
+     */
+    Optional<SyncStatusResponse> getStatus(long jobExecutionId);
+
+}
@@ -0,0 +1,40 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.dto.AnimalArchiveCondition;
+import com.playdata.petevent.api.dto.AnimalArchiveCursor;
+import com.playdata.petevent.api.dto.AnimalArchivePageResponse;
+import com.playdata.petevent.api.dto.AnimalArchiveResponse;
+import com.playdata.petevent.api.repository.AnimalArchiveRepository;
+import com.playdata.petevent.api.service.AnimalArchiveService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+public class AnimalArchiveServiceImpl implements AnimalArchiveService {
+
+    private final AnimalArchiveRepository archiveRepository;
+
+    @Override
+    public AnimalArchivePageResponse search(AnimalArchiveCondition condition) {
+        if (condition.archivedFrom() != null && condition.archivedTo() != null
+                && condition.archivedFrom().isAfter(condition.archivedTo())) {
+            throw new IllegalArgumentException("보관일 범위가 올바르지 않습니다.");
+        }
+        AnimalArchiveCursor cursor = StringUtils.hasText(condition.cursor())
+                ? AnimalArchiveCursor.decode(condition.cursor().trim()) : null;
+        int size = condition.pageSize();
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단
+        List<AnimalArchiveResponse> rows = archiveRepository.findPage(condition, cursor, size + 1);
+        if (rows.size() <= size) {
+            return new AnimalArchivePageResponse(List.copyOf(rows), null);
+        }
+
+        List<AnimalArchiveResponse> items = List.copyOf(rows.subList(0, size));
+        AnimalArchiveResponse last = items.get(size - 1);
+        return new AnimalArchivePageResponse(items, new AnimalArchiveCursor(last.archivedAt(), last.desertionNo()).encode());
+    }
+}
@@ -0,0 +1,85 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.config.AnimalFeedProperties;
+import com.playdata.petevent.api.dto.AnimalChangePageResponse;
+import com.playdata.petevent.api.dto.AnimalChangeResponse;
+import com.playdata.petevent.api.outbox.AnimalChangeNotifier;
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.service.AnimalChangeFeedService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalChangeFeedServiceImpl implements AnimalChangeFeedService {
+
+    private final AnimalChangeRepository changeRepository;
+
+    private final AnimalChangeNotifier notifier;
+
+    private final AnimalFeedProperties feedProperties;
+
+    // SSE 구독자별 전송 스레드 (최대 구독자 수 제한)
+    private final ThreadPoolTaskExecutor animalFeedExecutor;
+
+    @Override
+    public AnimalChangePageResponse getChanges(long after, int limit) {
+        int size = Math.max(1, Math.min(limit, feedProperties.getBatchSize()));
+        List<AnimalChangeResponse> changes = changeRepository.findAfter(after, size);
+        long nextCursor = changes.isEmpty() ? after : changes.get(changes.size() - 1).id();
+        return new AnimalChangePageResponse(changes, nextCursor);
+    }
+
+    @Override
+    public SseEmitter subscribe(long after) {
+        SseEmitter emitter = new SseEmitter(feedProperties.getSubscriptionTimeout().toMillis());
+        AtomicBoolean closed = new AtomicBoolean(false);
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        animalFeedExecutor.execute(() -> stream(emitter, after, closed));
+        return emitter;
+    }
+
+    /**
+     * 구독자 하나에 변경 기록을 전송한다 (연결이 끊기거나 시간이 지날 때까지).
+     * 조회 직전의 알림 버전을 기억해 두고 대기하므로, 조회 후 대기 전에 커밋된 변경도 바로 다시 조회한다.
+     */
+    private void stream(SseEmitter emitter, long after, AtomicBoolean closed) {
+        long cursor = after;
+        try {
+            while (!closed.get()) {
+                long seenVersion = notifier.version();
+                List<AnimalChangeResponse> changes = changeRepository.findAfter(cursor, feedProperties.getBatchSize());
+
+                if (changes.isEmpty()) {
+                    if (!notifier.awaitChange(seenVersion, feedProperties.getHeartbeat().toMillis()) && !closed.get()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    continue;
+                }
+
+                cursor = changes.get(changes.size() - 1).id();
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(cursor))
+                        .name("changes")
+                        .data(changes));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 등
+            log.debug("변경 피드 구독 종료 (cursor={}): {}", cursor, e.toString());
+            emitter.completeWithError(e);
+        }
+    }
+}
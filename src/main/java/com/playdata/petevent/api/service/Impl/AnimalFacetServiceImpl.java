@@ -0,0 +1,49 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.dto.FacetCountsResponse;
+import com.playdata.petevent.api.facet.FacetDimension;
+import com.playdata.petevent.api.repository.AnimalFacetRepository;
+import com.playdata.petevent.api.service.AnimalFacetService;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AnimalFacetServiceImpl implements AnimalFacetService {
+
+    private final AnimalFacetRepository facetRepository;
+
+    // 조회 API가 반환하는 집계 건수 (동기화 후 통째로 교체)
+    private final AtomicReference<FacetCountsResponse> snapshot =
+            new AtomicReference<>(new FacetCountsResponse(Map.of(), null));
+
+    @Override
+    public FacetCountsResponse getFacets() {
+        return snapshot.get();
+    }
+
+    @Override
+    public void refreshSnapshot() {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (Map.Entry<FacetDimension, Map<String, Long>> entry : facetRepository.findAll().entrySet()) {
+            facets.put(entry.getKey().key(), Collections.unmodifiableMap(entry.getValue()));
+        }
+        snapshot.set(new FacetCountsResponse(Collections.unmodifiableMap(facets), LocalDateTime.now()));
+    }
+
+    /**
+     * 삭제와 다시 채우기를 한 트랜잭션으로 처리해 중간 상태의 집계 테이블이 보이지 않게 한다.
+     */
+    @Override
+    @Transactional
+    public void rebuild() {
+        facetRepository.rebuild();
+        refreshSnapshot();
+    }
+}
@@ -0,0 +1,151 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.client.AnimalImageClient;
+import com.playdata.petevent.api.config.AnimalImageProperties;
+import com.playdata.petevent.api.entity.AnimalImageEntity.ImageStatus;
+import com.playdata.petevent.api.image.ThumbnailGenerator;
+import com.playdata.petevent.api.image.ThumbnailStore;
+import com.playdata.petevent.api.repository.AnimalImageRepository;
+import com.playdata.petevent.api.repository.AnimalImageRepository.ImageRef;
+import com.playdata.petevent.api.repository.AnimalImageRepository.PendingImage;
+import com.playdata.petevent.api.service.AnimalImageService;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalImageServiceImpl implements AnimalImageService {
+
+    static final String THUMBNAIL_PATH = "/api/animals/images/";
+
+    private final AnimalImageRepository imageRepository;
+
+    private final AnimalImageClient imageClient;
+
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    private final ThumbnailStore thumbnailStore;
+
+    private final AnimalImageProperties imageProperties;
+
+    // 다운로드/썸네일 생성 스레드 풀 (animal.image.download-concurrency개)
+    private final ThreadPoolTaskExecutor animalImageExecutor;
+
+    // 대기할 이미지를 조회해서 다운로드를 나눠 주는 스레드 (하나)
+    private final ThreadPoolTaskExecutor animalImageRefreshExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final AtomicBoolean requested = new AtomicBoolean(false);
+
+    @Override
+    public void refreshAsync() {
+        if (!imageProperties.isEnabled()) {
+            return;
+        }
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            animalImageRefreshExecutor.execute(this::runRefresh);
+        }
+    }
+
+    /**
+     * 요청이 남아 있는 동안 대기 중인 이미지를 모두 처리한다.
+     * 실행 중에 들어온 요청은 requested로 남아 있다가 현재 작업이 끝나면 이어서 처리한다.
+     */
+    private void runRefresh() {
+        try {
+            do {
+                while (requested.getAndSet(false)) {
+                    refreshPending();
+                }
+                running.set(false);
+            } while (requested.get() && running.compareAndSet(false, true));
+        } catch (RuntimeException e) {
+            running.set(false);
+            log.error("썸네일 생성 실패", e);
+        }
+    }
+
+    /**
+     * popfile1, popfile2 순서로 유기번호 순서대로 batch-size건씩 조회해서 내려받는다.
+     * 한 묶음의 다운로드가 모두 끝나야 다음 묶음을 조회하므로 대기 작업이 batch-size건을 넘지 않는다.
+     */
+    private void refreshPending() {
+        int done = 0;
+        for (int slot = 1; slot <= 2; slot++) {
+            String after = "";
+            List<PendingImage> batch;
+            do {
+                batch = imageRepository.findPending(slot, after, imageProperties.getBatchSize());
+                CompletableFuture.allOf(batch.stream()
+                        .map(image -> CompletableFuture.runAsync(() -> download(image), animalImageExecutor))
+                        .toArray(CompletableFuture[]::new)).join();
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1).desertionNo();
+                    done += batch.size();
+                }
+            } while (batch.size() == imageProperties.getBatchSize());
+        }
+        if (done > 0) {
+            log.info("유기동물 썸네일 {}건 처리", done);
+        }
+    }
+
+    private void download(PendingImage image) {
+        try {
+            byte[] thumbnail = thumbnailGenerator.generate(imageClient.download(image.sourceUrl()));
+            ThumbnailStore.Stored stored = thumbnailStore.put(thumbnail);
+            imageRepository.save(image, stored.hash(), ImageStatus.READY);
+            imageRepository.markEvicted(stored.evicted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("썸네일 생성 실패 ({}, {}): {}", image.desertionNo(), image.sourceUrl(), e.toString());
+            imageRepository.save(image, null, ImageStatus.FAILED);
+        }
+    }
+
+    @Override
+    public Optional<String> resolveImageLocation(String desertionNo, int slot) {
+        Optional<ImageRef> found = imageRepository.findImage(desertionNo, slot);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        ImageRef image = found.get();
+        if (image.status() == ImageStatus.READY && thumbnailStore.find(image.thumbnailHash()).isPresent()) {
+            return Optional.of(THUMBNAIL_PATH + image.thumbnailHash());
+        }
+
+        // 용량 상한으로 삭제된(또는 사라진) 썸네일은 다시 내려받음
+        if ((image.status() == ImageStatus.READY || image.status() == ImageStatus.EVICTED)
+                && imageRepository.requestRefetch(desertionNo, slot) > 0) {
+            refreshAsync();
+        }
+        return Optional.of(image.sourceUrl());
+    }
+
+    @Override
+    public Optional<Path> findThumbnail(String hash) {
+        return thumbnailStore.find(hash);
+    }
+
+    @Override
+    public int collectGarbage() {
+        long startedAt = System.currentTimeMillis();
+        int orphans = imageRepository.deleteOrphans();
+        int removed = thumbnailStore.retainOnly(imageRepository.findReferencedHashes(), startedAt);
+        if (orphans > 0 || removed > 0) {
+            log.info("삭제된 유기동물 이미지 정리 (기록 {}건, 썸네일 파일 {}개)", orphans, removed);
+        }
+        return removed;
+    }
+}
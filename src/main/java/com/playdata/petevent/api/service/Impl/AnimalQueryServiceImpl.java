@@ -0,0 +1,84 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.cache.AnimalQueryCache;
+import com.playdata.petevent.api.dto.AnimalCursor;
+import com.playdata.petevent.api.dto.AnimalPageResponse;
+import com.playdata.petevent.api.dto.AnimalSearchCondition;
+import com.playdata.petevent.api.dto.AnimalSummaryResponse;
+import com.playdata.petevent.api.dto.CacheStatsResponse;
+import com.playdata.petevent.api.repository.AnimalQueryRepository;
+import com.playdata.petevent.api.repository.AnimalSearchRepository;
+import com.playdata.petevent.api.service.AnimalQueryService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+public class AnimalQueryServiceImpl implements AnimalQueryService {
+
+    // 검색어 하나에 사용할 수 있는 최대 단어 수
+    private static final int MAX_KEYWORDS = 10;
+
+    private final AnimalQueryRepository animalQueryRepository;
+
+    // 동기화 사이에는 결과가 바뀌지 않으므로 정규화한 조건 + cursor 단위로 캐시
+    private final AnimalQueryCache animalQueryCache;
+
+    private final AnimalSearchRepository animalSearchRepository;
+
+    @Override
+    public AnimalPageResponse search(AnimalSearchCondition condition) {
+        return animalQueryCache.get(condition.normalized(), this::load);
+    }
+
+    @Override
+    public AnimalPageResponse searchText(String keyword, AnimalSearchCondition condition) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery.isEmpty()) {
+            throw new IllegalArgumentException("검색어가 비어 있습니다.");
+        }
+        AnimalSearchCondition normalized = condition.normalized();
+        return new AnimalPageResponse(animalSearchRepository.search(booleanQuery, normalized, normalized.pageSize()), null);
+    }
+
+    @Override
+    public CacheStatsResponse cacheStats() {
+        return animalQueryCache.stats();
+    }
+
+    private AnimalPageResponse load(AnimalSearchCondition condition) {
+        AnimalCursor cursor = StringUtils.hasText(condition.cursor()) ? AnimalCursor.decode(condition.cursor()) : null;
+        int size = condition.pageSize();
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단
+        List<AnimalSummaryResponse> rows = animalQueryRepository.findPage(condition, cursor, size + 1);
+        if (rows.size() <= size) {
+            return new AnimalPageResponse(List.copyOf(rows), null);
+        }
+
+        List<AnimalSummaryResponse> items = List.copyOf(rows.subList(0, size));
+        AnimalSummaryResponse last = items.get(size - 1);
+        return new AnimalPageResponse(items, new AnimalCursor(last.noticeSdt(), last.desertionNo()).encode());
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환한다.
+     * - 단어마다 +를 붙여 모든 단어를 포함하는 데이터만 검색 (ngram 파서는 단어를 글자 조각의 구문으로 검색)
+     * - 사용자가 입력한 검색 연산자(+ - < > ( ) ~ * " @)는 제거
+     * 예: "흰색 말티즈 목걸이" → "+흰색 +말티즈 +목걸이"
+     */
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return Arrays.stream(keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .limit(MAX_KEYWORDS)
+                .map(word -> "+" + word)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,90 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.config.AnimalSyncProperties;
+import com.playdata.petevent.api.config.AnimalSyncProperties.DepartedMode;
+import com.playdata.petevent.api.repository.AnimalArchiveRepository;
+import com.playdata.petevent.api.repository.AnimalChangeRepository;
+import com.playdata.petevent.api.repository.AnimalFacetRepository;
+import com.playdata.petevent.api.repository.AnimalsRepository;
+import com.playdata.petevent.api.service.AnimalReconciliationService;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalReconciliationServiceImpl implements AnimalReconciliationService {
+
+    // API에서 사라져도 삭제하지 않는 보호 상태
+    public static final String KEEP_PROCESS_STATE = "보호중";
+
+    private final AnimalsRepository animalsRepository;
+
+    private final AnimalFacetRepository facetRepository;
+
+    private final AnimalChangeRepository changeRepository;
+
+    // 삭제 대신 보관할 때 사용하는 보관 테이블
+    private final AnimalArchiveRepository archiveRepository;
+
+    private final AnimalSyncProperties syncProperties;
+
+    @Override
+    public void prepareArchive() {
+        if (!archiving()) {
+            return;
+        }
+        archiveRepository.ensureTable();
+        YearMonth now = YearMonth.now();
+        int added = archiveRepository.ensurePartitions(now, now.plusMonths(1));
+        if (added > 0) {
+            log.info("보관 테이블 파티션 {}개 추가", added);
+        }
+    }
+
+    /**
+     * Writer가 이번 실행 번호(last_sync_run)를 찍지 않은 행 = 이번 API 결과에 없던 데이터.
+     * 그중 "보호중"이 아닌 행을 DELETE 한 번으로 삭제한다.
+     * 테이블 전체를 메모리로 읽지 않으므로 테이블 크기와 관계없이 메모리 사용량이 일정하다.
+     * 삭제 직전에 삭제 대상의 집계 값을 GROUP BY로 모아 같은 트랜잭션에서 집계 건수에서 빼고,
+     * 삭제 대상을 변경 기록(DELETED)에 추가한다.
+     * 보관 모드이면 삭제 직전에 같은 조건의 행을 INSERT ... SELECT 한 번으로 보관 테이블에 복사한다.
+     * (복사와 삭제가 한 트랜잭션이므로 보관 없이 삭제되거나, 삭제되지 않고 보관만 되는 경우가 없음)
+     *
+     * @param syncRunId 이번 동기화 실행 번호 (JobInstance id)
+     * @return 삭제(보관)된 행 수
+     */
+    @Override
+    @Transactional
+    public int removeDeparted(long syncRunId) {
+        facetRepository.apply(facetRepository.departedFacets(syncRunId, KEEP_PROCESS_STATE));
+        changeRepository.appendDeparted(syncRunId, KEEP_PROCESS_STATE);
+        if (archiving()) {
+            archiveRepository.archiveDeparted(syncRunId, KEEP_PROCESS_STATE, archivedAt());
+        }
+        return animalsRepository.deleteNotSyncedIn(syncRunId, KEEP_PROCESS_STATE);
+    }
+
+    @Override
+    public int archiveMissingFromStaging(long syncRunId) {
+        // 교체 직전의 암묵적 커밋 후 교체가 실패해 Step을 재시작한 경우 이미 보관되어 있음
+        if (!archiving() || archiveRepository.hasArchived(syncRunId)) {
+            return 0;
+        }
+        return archiveRepository.archiveMissingFromStaging(syncRunId, archivedAt());
+    }
+
+    private boolean archiving() {
+        return syncProperties.getDepartedMode() == DepartedMode.ARCHIVE;
+    }
+
+    // 보관 시각은 DATETIME(6) 정밀도에 맞춰 저장 (cursor로 돌려받은 값과 정확히 비교되도록)
+    private static LocalDateTime archivedAt() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
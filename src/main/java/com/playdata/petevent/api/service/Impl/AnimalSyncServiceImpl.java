@@ -0,0 +1,227 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.batch.SyncMode;
+import com.playdata.petevent.api.config.AnimalSyncJobConfig;
+import com.playdata.petevent.api.config.AnimalSyncProperties;
+import com.playdata.petevent.api.dto.SyncStatusResponse;
+import com.playdata.petevent.api.service.AnimalSyncService;
+import com.playdata.petevent.api.service.SyncAlreadyRunningException;
+import com.playdata.petevent.api.service.SyncWatermarkService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalSyncServiceImpl implements AnimalSyncService {
+
+    // Reader가 Step ExecutionContext에 저장하는 처리 페이지 수 키 (AnimalApiItemReader 참고)
+    private static final String PAGES_FETCHED_KEY = "animalApiItemReader.pagesFetched";
+    private static final String PARSE_FAILURES_KEY = "animalApiItemReader.parseFailures";
+
+    // 별도 스레드에서 Job을 실행하고 바로 반환하는 JobLauncher (AnimalJobLauncherConfig)
+    private final JobLauncher asyncJobLauncher;
+
+    private final Job syncAnimalJob;
+
+    private final Job fullRefreshAnimalJob;
+
+    private final SyncWatermarkService watermarkService;
+
+    // 이전 실행 결과 조회용
+    private final JobExplorer jobExplorer;
+
+    // 비정상 종료로 남은 실행을 실패 처리하기 위한 저장소
+    private final JobRepository jobRepository;
+
+    private final AnimalSyncProperties syncProperties;
+
+    /**
+     * JobParameters 구성
+     * - timestamp: 매 실행마다 고유한 JobInstance를 만들기 위한 값
+     * - syncMode: FULL / DELTA / REFRESH
+     * - bgnde, endde: DELTA일 때 API 검색 기간 (워터마크 - lookback ~ 오늘)
+     * REFRESH는 fullRefreshAnimalJob, 나머지는 syncAnimalJob으로 실행한다.
+
+     * 두 Job은 같은 테이블을 변경하므로 둘 중 하나라도 실행 중이면 새로 실행하지 않는다.
+     * 확인과 실행 사이에 다른 요청이 끼어들지 않도록 synchronized로 묶으며,
+     * 비동기 JobLauncher는 JobExecution을 저장한 직후 반환하므로 락을 오래 잡지 않는다.
+     */
+    @Override
+    public synchronized JobExecution runSync(SyncMode mode) throws JobExecutionException {
+        JobExecution running = findRunningExecution();
+        if (running != null) {
+            throw new SyncAlreadyRunningException(running);
+        }
+
+        Job job = mode == SyncMode.REFRESH ? fullRefreshAnimalJob : syncAnimalJob;
+
+        Optional<LocalDate> since = Optional.empty();
+        if (mode == SyncMode.DELTA) {
+            since = watermarkService.deltaStartDate();
+            if (since.isEmpty()) {
+                // 성공한 동기화가 한 번도 없으면 기준 시점이 없으므로 전체 동기화
+                log.info("동기화 워터마크가 없어 FULL 동기화로 실행");
+                mode = SyncMode.FULL;
+            }
+        }
+
+        // 직전 실행이 같은 방식으로 실패했다면 새로 내려받지 않고 마지막 커밋 지점부터 재시작
+        JobExecution failed = findRestartableExecution(job, mode);
+        if (failed != null) {
+            log.info("실패한 동기화 재시작 (jobExecutionId={}, 파라미터={})", failed.getId(), failed.getJobParameters());
+            return asyncJobLauncher.run(job, failed.getJobParameters());
+        }
+
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis());
+        if (since.isPresent()) {
+            builder.addLocalDate("bgnde", since.get())
+                    .addLocalDate("endde", LocalDate.now());
+        }
+        builder.addString("syncMode", mode.name());
+
+        return asyncJobLauncher.run(job, builder.toJobParameters());
+    }
+
+    /**
+     * Job 상태와 Step별 진행 건수를 합산해서 반환한다.
+     * 파티션 Step은 워커 Step의 건수를 종료 시점에 다시 합산하므로 중복 집계하지 않도록 제외한다.
+     */
+    @Override
+    public Optional<SyncStatusResponse> getStatus(long jobExecutionId) {
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        if (execution == null) {
+            return Optional.empty();
+        }
+
+        long pages = 0, read = 0, write = 0, filter = 0, skip = 0, parseFailures = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (AnimalSyncJobConfig.PARTITION_STEP_NAME.equals(step.getStepName())) {
+                continue;
+            }
+            pages += step.getExecutionContext().getLong(PAGES_FETCHED_KEY, 0L);
+            parseFailures += step.getExecutionContext().getLong(PARSE_FAILURES_KEY, 0L);
+            read += step.getReadCount();
+            write += step.getWriteCount();
+            filter += step.getFilterCount();
+            skip += step.getSkipCount();
+        }
+
+        return Optional.of(new SyncStatusResponse(
+                execution.getId(),
+                execution.getJobInstance().getJobName(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                execution.getStartTime(),
+                execution.getEndTime(),
+                pages, read, write, filter, skip, parseFailures));
+    }
+
+    /**
+     * syncAnimalJob, fullRefreshAnimalJob 중 실행 중인 JobExecution을 찾는다.
+     * 서버가 비정상 종료되어 실행 중으로 남은 기록(stale-after 동안 갱신 없음)은 실패로 바꿔서,
+     * 다음 실행을 막지 않고 재시작 대상이 되도록 한다.
+     * 갱신 시각은 Chunk가 커밋될 때마다 갱신되는 StepExecution 기준으로 판단한다 (lastActivity 참고).
+     */
+    private JobExecution findRunningExecution() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(syncProperties.getStaleAfter());
+
+        for (Job job : List.of(syncAnimalJob, fullRefreshAnimalJob)) {
+            for (JobExecution execution : jobExplorer.findRunningJobExecutions(job.getName())) {
+                LocalDateTime lastActivity = lastActivity(execution);
+                if (lastActivity != null && lastActivity.isBefore(staleBefore)) {
+                    markFailed(execution, lastActivity);
+                    continue;
+                }
+                return execution;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 실행이 마지막으로 진행된 시각.
+     * JobExecution.lastUpdated는 Step이 시작/종료될 때만 갱신되어 정상적으로 오래 걸리는 실행도 멈춘 것처럼 보이므로,
+     * Chunk 커밋마다 갱신되는 StepExecution(파티션 워커 Step 포함)의 lastUpdated 중 가장 최근 값을 사용한다.
+     */
+    private static LocalDateTime lastActivity(JobExecution execution) {
+        LocalDateTime latest = execution.getLastUpdated() != null ? execution.getLastUpdated() : execution.getCreateTime();
+        for (StepExecution step : execution.getStepExecutions()) {
+            LocalDateTime updated = step.getLastUpdated();
+            if (updated != null && (latest == null || updated.isAfter(latest))) {
+                latest = updated;
+            }
+        }
+        return latest;
+    }
+
+    // 비정상 종료로 남은 실행과 그 Step들을 FAILED로 변경
+    private void markFailed(JobExecution execution, LocalDateTime lastActivity) {
+        log.warn("오래 갱신되지 않은 실행을 실패 처리 (jobExecutionId={}, 마지막 진행 시각={})",
+                execution.getId(), lastActivity);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStatus().isRunning()) {
+                step.setStatus(BatchStatus.FAILED);
+                step.setExitStatus(ExitStatus.FAILED);
+                step.setEndTime(now);
+                jobRepository.update(step);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("비정상 종료된 실행"));
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+
+    /**
+     * 가장 최근 JobInstance의 마지막 실행이 실패(FAILED/STOPPED)했으면 그 실행을 반환한다.
+     * 같은 원인으로 계속 실패하는 경우를 막기 위해 재시작 횟수가 maxRestarts를 넘으면 null.
+     * 실패한 실행의 동기화 방식(syncMode)이 요청한 방식과 다르면 재시작하지 않는다.
+     * (실패한 DELTA가 예약된 FULL 동기화를 대신하면 없어진 데이터가 정리되지 않음)
+     * 이 경우 요청한 방식으로 새로 실행되고, 실패한 JobInstance는 더 이상 재시작하지 않는다.
+     */
+    private JobExecution findRestartableExecution(Job job, SyncMode mode) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance == null) {
+            return null;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null
+                || (lastExecution.getStatus() != BatchStatus.FAILED && lastExecution.getStatus() != BatchStatus.STOPPED)) {
+            return null;
+        }
+
+        String failedMode = lastExecution.getJobParameters().getString("syncMode");
+        if (!mode.name().equals(failedMode)) {
+            log.info("실패한 동기화의 방식이 달라 재시작하지 않고 새로 실행 (jobInstanceId={}, 실패 {}, 요청 {}) - 실패한 실행은 포기",
+                    lastInstance.getInstanceId(), failedMode, mode);
+            return null;
+        }
+
+        int restarts = jobExplorer.getJobExecutions(lastInstance).size() - 1;
+        if (restarts >= syncProperties.getMaxRestarts()) {
+            log.warn("동기화 재시작 횟수 초과 (jobInstanceId={}, 재시작 {}회) - 새로 실행", lastInstance.getInstanceId(), restarts);
+            return null;
+        }
+        return lastExecution;
+    }
+}
@@ -0,0 +1,53 @@
+package com.playdata.petevent.api.service.Impl;
+
+import com.playdata.petevent.api.config.AnimalSyncProperties;
+import com.playdata.petevent.api.entity.SyncWatermarkEntity;
+import com.playdata.petevent.api.repository.SyncWatermarkRepository;
+import com.playdata.petevent.api.service.SyncWatermarkService;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SyncWatermarkServiceImpl implements SyncWatermarkService {
+
+    // 워터마크 키 (동기화 Job 이름)
+    public static final String SYNC_JOB_NAME = "syncAnimalJob";
+
+    private final SyncWatermarkRepository watermarkRepository;
+
+    private final AnimalSyncProperties syncProperties;
+
+    /**
+     * 마지막 동기화 이후 등록된 데이터만 받되,
+     * 동기화 직전에 등록되었지만 API 반영이 늦은 데이터도 놓치지 않도록 lookback만큼 앞당긴다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> deltaStartDate() {
+        return watermarkRepository.findById(SYNC_JOB_NAME)
+                .map(watermark -> watermark.getSyncedDate().minusDays(syncProperties.getDeltaLookback().toDays()));
+    }
+
+    /**
+     * Job 종료 시각이 아닌 시작 날짜를 기록한다.
+     * (실행 도중 등록된 데이터는 다음 DELTA 동기화에서 다시 조회됨)
+     */
+    @Override
+    @Transactional
+    public void advance(JobExecution jobExecution) {
+        LocalDate syncedDate = jobExecution.getStartTime().toLocalDate();
+
+        watermarkRepository.findById(SYNC_JOB_NAME).ifPresentOrElse(
+                watermark -> watermark.advance(syncedDate, jobExecution.getId()),
+                () -> watermarkRepository.save(SyncWatermarkEntity.builder()
+                        .jobName(SYNC_JOB_NAME)
+                        .syncedDate(syncedDate)
+                        .jobExecutionId(jobExecution.getId())
+                        .build()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.playdata.petevent.api.service;
+
+import lombok.Getter;
+import org.springframework.batch.core.JobExecution;
+
+/**
+ * 동기화 Job이 이미 실행 중이어서 새로 실행하지 않았을 때 발생하는 예외.
+ */
+@Getter
+public class SyncAlreadyRunningException extends RuntimeException {
+
+    // 실행 중인 JobExecution
+    private final JobExecution runningExecution;
+
+    public SyncAlreadyRunningException(JobExecution runningExecution) {
+        super(String.format("동기화 Job이 이미 실행 중입니다 (%s, jobExecutionId=%d)",
+                runningExecution.getJobInstance().getJobName(), runningExecution.getId()));
+        this.runningExecution = runningExecution;
+    }
+}
@@ -0,0 +1,21 @@
+package com.playdata.petevent.api.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.batch.core.JobExecution;
+
+public interface SyncWatermarkService {
+
+    /**
+     * DELTA 동기화의 검색 시작일 (마지막 성공 동기화 날짜 - lookback).
+     *
+     * @return 워터마크가 없으면(아직 성공한 동기화가 없으면) empty
+     */
+    Optional<LocalDate> deltaStartDate();
+
+    /**
+     * 성공한 Job 실행의 시작 날짜로 워터마크를 갱신한다.
+     */
+    void advance(JobExecution jobExecution);
+
+}
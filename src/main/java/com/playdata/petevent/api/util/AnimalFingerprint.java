@@ -0,0 +1,89 @@
+package com.playdata.petevent.api.util;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+
+/**
+ * 유기동물 데이터의 내용 지문(fingerprint) 계산 유틸리티.
+
+ * - API에서 매핑하는 모든 데이터 필드(유기번호, 생성/수정일 제외)를 64비트 FNV-1a 해시로 요약.
+ * - 지문이 같으면 내용이 같다고 보고 DB 엔티티를 조회하지 않고도 변경 여부를 판단할 수 있음.
+ * - 문자열에서 변환한 날짜/숫자 컬럼도 포함해서, 변환 규칙이 바뀌면 다음 동기화 때 기존 데이터도 다시 저장되도록 함.
+ * - null과 빈 문자열을 구분하고, 필드 사이에 구분자를 넣어 값이 이웃 필드로 밀려도 다른 지문이 나오도록 함.
+ */
+public class AnimalFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // 필드 구분자 / null 표시용 값 (일반 문자열에 등장하지 않는 제어 문자)
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    /**
+     * 엔티티의 데이터 필드 전체에 대한 지문을 계산한다.
+     */
+    public static long of(AnimalsEntity animal) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, animal.getRfidCd());
+        hash = mix(hash, animal.getHappenDt());
+        hash = mix(hash, animal.getHappenPlace());
+        hash = mix(hash, animal.getUpKindNm());
+        hash = mix(hash, animal.getKindNm());
+        hash = mix(hash, animal.getColorCd());
+        hash = mix(hash, animal.getAge());
+        hash = mix(hash, animal.getWeight());
+        hash = mix(hash, animal.getNoticeSdt());
+        hash = mix(hash, animal.getNoticeEdt());
+        hash = mix(hash, animal.getPopfile1());
+        hash = mix(hash, animal.getPopfile2());
+        hash = mix(hash, animal.getProcessState());
+        hash = mix(hash, animal.getSexCd() == null ? null : animal.getSexCd().name());
+        hash = mix(hash, animal.getNeuterYn() == null ? null : animal.getNeuterYn().name());
+        hash = mix(hash, animal.getSpecialMark());
+        hash = mix(hash, animal.getCareNm());
+        hash = mix(hash, animal.getCareTel());
+        hash = mix(hash, animal.getCareAddr());
+        hash = mix(hash, animal.getCareOwnerNm());
+        hash = mix(hash, animal.getOrgNm());
+        hash = mix(hash, animal.getEtcBigo());
+        hash = mix(hash, animal.getHappenDate() == null ? null : animal.getHappenDate().toEpochDay());
+        hash = mix(hash, animal.getNoticeStartDate() == null ? null : animal.getNoticeStartDate().toEpochDay());
+        hash = mix(hash, animal.getNoticeEndDate() == null ? null : animal.getNoticeEndDate().toEpochDay());
+        hash = mix(hash, animal.getWeightGrams() == null ? null : animal.getWeightGrams().longValue());
+        hash = mix(hash, animal.getBirthYear() == null ? null : animal.getBirthYear().longValue());
+        return hash;
+    }
+
+    // 문자열 하나를 해시에 누적 (문자 단위 FNV-1a)
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            hash = step(hash, NULL_MARKER);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                hash = step(hash, value.charAt(i));
+            }
+        }
+        return step(hash, FIELD_SEPARATOR);
+    }
+
+    // 숫자 하나를 해시에 누적 (16비트씩 4번, 문자열 변환 없이)
+    private static long mix(long hash, Long value) {
+        if (value == null) {
+            hash = step(hash, NULL_MARKER);
+        } else {
+            long v = value;
+            for (int shift = 48; shift >= 0; shift -= 16) {
+                hash = step(hash, (char) (v >>> shift));
+            }
+        }
+        return step(hash, FIELD_SEPARATOR);
+    }
+
+    private static long step(long hash, char c) {
+        hash ^= (c & 0xff);
+        hash *= FNV_PRIME;
+        hash ^= (c >>> 8);
+        hash *= FNV_PRIME;
+        return hash;
+    }
+}
@@ -0,0 +1,138 @@
+package com.playdata.petevent.api.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * API 문자열 값을 날짜/숫자로 변환하는 유틸리티.
+ * 형식이 조금씩 다른 값(구분자, 단위 표기 차이)을 허용하고, 해석할 수 없으면 예외 대신 null을 반환한다.
+ * 정규식/예외 없이 문자 단위로 읽으므로 잘못된 값이 많아도 비용이 늘지 않는다.
+ */
+public class AnimalValueParser {
+
+    // 체중 허용 범위 (그램), 0이나 비정상적으로 큰 값은 입력 오류로 봄
+    private static final int MIN_WEIGHT_GRAMS = 1;
+    private static final int MAX_WEIGHT_GRAMS = 200_000;
+
+    // 출생 연도 허용 하한
+    private static final int MIN_BIRTH_YEAR = 1990;
+
+    /**
+     * 날짜 변환. 숫자만 모아서 yyyyMMdd 8자리일 때만 인정한다.
+     * 예: "20250510", "2025-05-10", "2025.05.10" → 2025-05-10
+     */
+    public static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        int digits = 0;
+        int number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 8) {
+                    return null;
+                }
+                number = number * 10 + (c - '0');
+            }
+        }
+        if (digits != 8) {
+            return null;
+        }
+        try {
+            return LocalDate.of(number / 10000, number / 100 % 100, number % 100);
+        } catch (DateTimeException e) {
+            return null; // 13월, 2월 30일 등
+        }
+    }
+
+    /**
+     * 체중 변환 (그램). 첫 번째 숫자(소수점은 . 또는 ,)를 읽고 단위가 g이면 그램, 그 외(Kg, 단위 없음)는 킬로그램으로 본다.
+     * 예: "3(Kg)" → 3000, "0.5(Kg)" → 500, "2,3kg" → 2300, "800g" → 800
+     */
+    public static Integer parseWeightGrams(String value) {
+        if (value == null) {
+            return null;
+        }
+        int length = value.length();
+        int i = 0;
+        while (i < length && !isDigit(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return null;
+        }
+
+        long integerPart = 0;
+        while (i < length && isDigit(value.charAt(i))) {
+            integerPart = integerPart * 10 + (value.charAt(i++) - '0');
+            if (integerPart > MAX_WEIGHT_GRAMS) {
+                return null;
+            }
+        }
+        // 소수점 이하 세 자리(그램 단위)까지만 사용
+        long fraction = 0;
+        int scale = 1000;
+        if (i + 1 < length && (value.charAt(i) == '.' || value.charAt(i) == ',') && isDigit(value.charAt(i + 1))) {
+            i++;
+            while (i < length && isDigit(value.charAt(i))) {
+                if (scale > 1) {
+                    scale /= 10;
+                    fraction += (long) (value.charAt(i) - '0') * scale;
+                }
+                i++;
+            }
+        }
+
+        long grams = isGramUnit(value, i) ? integerPart : integerPart * 1000 + fraction;
+        return grams >= MIN_WEIGHT_GRAMS && grams <= MAX_WEIGHT_GRAMS ? (int) grams : null;
+    }
+
+    /**
+     * 출생 연도 변환. 처음 나오는 4자리 숫자를 연도로 본다.
+     * 예: "2023(년생)" → 2023, "2025(60일미만)(년생)" → 2025
+     */
+    public static Integer parseBirthYear(String value) {
+        if (value == null) {
+            return null;
+        }
+        int run = 0;
+        int year = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) {
+                year = year * 10 + (c - '0');
+                run++;
+            } else {
+                if (run == 4) {
+                    break;
+                }
+                run = 0;
+                year = 0;
+            }
+        }
+        if (run != 4) {
+            return null;
+        }
+        return year >= MIN_BIRTH_YEAR && year <= Year.now().getValue() + 1 ? year : null;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 숫자 뒤의 단위가 킬로그램이 아닌 그램인지 (k 없이 g만 있음)
+    private static boolean isGramUnit(String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            char c = Character.toLowerCase(value.charAt(i));
+            if (c == 'k') {
+                return false;
+            }
+            if (c == 'g') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
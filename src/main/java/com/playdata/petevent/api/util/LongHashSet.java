@@ -0,0 +1,115 @@
+package com.playdata.petevent.api.util;
+
+import java.util.Arrays;
+
+/**
+ * long 값 전용 해시 Set (오픈 어드레싱, 선형 탐사).
+ * Long 객체나 해시 노드를 만들지 않고 long[] 하나에 값을 저장하므로
+ * HashSet&lt;String&gt;에 비해 원소당 메모리가 크게 줄어든다. (부하율 0.5 기준 원소당 약 16바이트)
+ * 스레드 안전하지 않다.
+ */
+public class LongHashSet {
+
+    // 빈 칸 표시값. 이 값 자체는 별도 플래그로 관리
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int size;
+    private boolean containsEmptyValue;
+
+    public LongHashSet() {
+        this(1024);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있던 값이면 false
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmptyValue) {
+                return false;
+            }
+            containsEmptyValue = true;
+            size++;
+            return true;
+        }
+
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+
+        // 부하율 0.5를 넘으면 두 배로 확장
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmptyValue;
+        }
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        containsEmptyValue = false;
+    }
+
+    private void rehash(int newLength) {
+        long[] old = table;
+        table = new long[newLength];
+        int mask = newLength - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int index = mix(value) & mask;
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    // 연속된 유기번호가 한쪽에 몰리지 않도록 비트를 섞음 (MurmurHash3 finalizer)
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb3fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    // 부하율 0.5를 유지할 수 있는 2의 거듭제곱 크기
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Math.max(16, expectedSize * 2);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -2,23 +2,33 @@ package com.playdata.petevent.api.util;
 
 import com.playdata.petevent.api.entity.AnimalsEntity;
 
+/**
+ * API 코드 문자열을 enum으로 변환하는 유틸리티.
+ * 잘못된 코드가 많이 들어와도 비용이 늘지 않도록 예외(valueOf 실패) 대신 문자 비교로 변환한다.
+ */
 public class SafeEnumParser {
 
     // 성별 코드가 유효하지 않으면 Q(미상)으로 대체
     public static AnimalsEntity.SexCode parseSexCode(String code) {
-        try {
-            return AnimalsEntity.SexCode.valueOf(code);
-        } catch (Exception e) {
+        if (code == null || code.length() != 1) {
             return AnimalsEntity.SexCode.Q;
         }
+        return switch (code.charAt(0)) {
+            case 'M' -> AnimalsEntity.SexCode.M;
+            case 'F' -> AnimalsEntity.SexCode.F;
+            default -> AnimalsEntity.SexCode.Q;
+        };
     }
 
     // 중성화 여부가 유효하지 않으면 U(미상)으로 대체
     public static AnimalsEntity.NeuterYn parseNeuterYn(String code) {
-        try {
-            return AnimalsEntity.NeuterYn.valueOf(code);
-        } catch (Exception e) {
+        if (code == null || code.length() != 1) {
             return AnimalsEntity.NeuterYn.U;
         }
+        return switch (code.charAt(0)) {
+            case 'Y' -> AnimalsEntity.NeuterYn.Y;
+            case 'N' -> AnimalsEntity.NeuterYn.N;
+            default -> AnimalsEntity.NeuterYn.U;
+        };
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.playdata.petevent.util.controller;
 
-import com.playdata.petevent.util.crawler.NaverPetEventCrawler;
+import com.playdata.petevent.util.dto.CrawlStatus;
+import com.playdata.petevent.util.service.CrawlerRunService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -9,20 +12,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PetController {
 
-    private final NaverPetEventCrawler crawler;
+    private final CrawlerRunService crawlerRunService;
 
     /**
      * 수동으로 크롤러를 실행하는 엔드포인트
-     * GET /api/crawler/run
+     * GET /run
+     * 크롤링은 별도 스레드에서 실행되고 바로 응답 (202 Accepted).
+     * 이미 실행 중이면 새로 시작하지 않고 실행 중인 상태를 반환.
      */
     @GetMapping("/run")
-    public String runCrawler() {
-        try {
-            crawler.crawl();
-            return "크롤링이 완료되었습니다.";
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "크롤링 도중 오류가 발생했습니다.";
-        }
+    public ResponseEntity<CrawlStatus> runCrawler() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(crawlerRunService.start());
+    }
+
+    /**
+     * 가장 최근 크롤링 상태 조회
+     * GET /run/status
+     */
+    @GetMapping("/run/status")
+    public ResponseEntity<CrawlStatus> getCrawlerStatus() {
+        return ResponseEntity.of(crawlerRunService.latest());
     }
 }
@@ -258,7 +258,7 @@ public class NaverPetEventCrawler {
      * @param values 해시 생성에 사용할 문자열 배열
      * @return MD5 해시 문자열 (16진수)
      */
-    private String generateHash(String... values) {
+    static String generateHash(String... values) { // 벤치마크(src/jmh)에서 호출하기 위해 package-private
         StringBuilder sb = new StringBuilder();
         for (String value : values) {
             sb.append(Optional.ofNullable(value).orElse("")); // null 처리
@@ -0,0 +1,36 @@
+package com.playdata.petevent.util.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 실행 상태.
+ *
+ * @param runId      실행 번호 (애플리케이션 시작 후 1부터 증가)
+ * @param state      RUNNING, COMPLETED, FAILED
+ * @param startedAt  시작 시각
+ * @param finishedAt 종료 시각 (실행 중이면 null)
+ * @param error      실패 원인 (성공이면 null)
+ */
+public record CrawlStatus(
+        long runId,
+        String state,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error) {
+
+    public static CrawlStatus running(long runId) {
+        return new CrawlStatus(runId, "RUNNING", LocalDateTime.now(), null, null);
+    }
+
+    public CrawlStatus completed() {
+        return new CrawlStatus(runId, "COMPLETED", startedAt, LocalDateTime.now(), null);
+    }
+
+    public CrawlStatus failed(Throwable e) {
+        return new CrawlStatus(runId, "FAILED", startedAt, LocalDateTime.now(), e.toString());
+    }
+
+    public boolean isRunning() {
+        return finishedAt == null;
+    }
+}
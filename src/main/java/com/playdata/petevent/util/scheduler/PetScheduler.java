@@ -1,6 +1,6 @@
 package com.playdata.petevent.util.scheduler;
 
-import com.playdata.petevent.util.crawler.NaverPetEventCrawler;
+import com.playdata.petevent.util.service.CrawlerRunService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -9,13 +9,14 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PetScheduler {
 
-    private final NaverPetEventCrawler crawler;
+    private final CrawlerRunService crawlerRunService;
 
     /**
      * 매 1일마다 오전 9시에 박람회 크롤링
+     * (수동 실행이 진행 중이면 새로 시작하지 않음)
      */
     @Scheduled(cron = "0 0 9 */1 * *")
     public void crawlAndSaveEvents() {
-        crawler.crawl();
+        crawlerRunService.start();
     }
 }
@@ -0,0 +1,23 @@
+package com.playdata.petevent.util.service;
+
+import com.playdata.petevent.util.dto.CrawlStatus;
+import java.util.Optional;
+
+public interface CrawlerRunService {
+
+    /**
+     * 크롤링을 별도 스레드에서 시작하고 바로 반환한다.
+     * 이미 실행 중이면 새로 시작하지 않고 실행 중인 상태를 반환한다.
+     *
+     * @return 시작된(또는 실행 중인) 크롤링 상태
+     */
+    CrawlStatus start();
+
+    /**
+     * 가장 최근 크롤링 상태를 조회한다.
+     *
+     * @return 아직 한 번도 실행하지 않았으면 empty
+     */
+    Optional<CrawlStatus> latest();
+
+}
@@ -0,0 +1,57 @@
+package com.playdata.petevent.util.service.Impl;
+
+import com.playdata.petevent.util.crawler.NaverPetEventCrawler;
+import com.playdata.petevent.util.dto.CrawlStatus;
+import com.playdata.petevent.util.service.CrawlerRunService;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlerRunServiceImpl implements CrawlerRunService {
+
+    private final NaverPetEventCrawler crawler;
+
+    // 크롤링은 브라우저를 하나 띄우므로 한 번에 하나만 실행 (스레드 하나, AnimalExecutorConfig)
+    private final ThreadPoolTaskExecutor petCrawlerExecutor;
+
+    private final AtomicLong runSequence = new AtomicLong();
+
+    // 가장 최근 실행 상태
+    private final AtomicReference<CrawlStatus> current = new AtomicReference<>();
+
+    /**
+     * 수동 실행과 스케줄 실행이 겹치면 먼저 시작한 실행 하나로 합친다.
+     */
+    @Override
+    public synchronized CrawlStatus start() {
+        CrawlStatus running = current.get();
+        if (running != null && running.isRunning()) {
+            return running;
+        }
+
+        CrawlStatus status = CrawlStatus.running(runSequence.incrementAndGet());
+        current.set(status);
+        petCrawlerExecutor.execute(() -> {
+            try {
+                crawler.crawl();
+                current.set(status.completed());
+            } catch (Exception e) {
+                log.error("크롤링 도중 오류 발생 (runId={})", status.runId(), e);
+                current.set(status.failed(e));
+            }
+        });
+        return status;
+    }
+
+    @Override
+    public Optional<CrawlStatus> latest() {
+        return Optional.ofNullable(current.get());
+    }
+}
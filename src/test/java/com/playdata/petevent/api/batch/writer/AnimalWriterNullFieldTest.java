@@ -0,0 +1,116 @@
+package com.playdata.petevent.api.batch.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * API에서 값이 없어진 필드가 두 Writer 모두에서 null로 반영되고,
+ * 저장된 content_hash가 실제 행 내용의 지문과 일치하는지 확인한다. (null → 값 → null)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AnimalWriterNullFieldTest {
+
+    @Autowired
+    private AnimalCustomItemWriter jpaWriter;
+
+    @Autowired
+    private AnimalJdbcItemWriter jdbcWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jpa", "jdbc"})
+    void nullValueNullRoundTrip(String writerType) {
+        ItemWriter<AnimalsEntity> writer = "jdbc".equals(writerType) ? jdbcWriter : jpaWriter;
+        String desertionNo = "jdbc".equals(writerType) ? "448000202500002" : "448000202500001";
+
+        AnimalsEntity withoutValues = animal(desertionNo, null, null);
+        write(writer, withoutValues);
+        assertStored(desertionNo, null, null, withoutValues.getContentHash());
+
+        AnimalsEntity withValues = animal(desertionNo, "20250621", "http://example.com/2.jpg");
+        write(writer, withValues);
+        assertStored(desertionNo, "20250621", "http://example.com/2.jpg", withValues.getContentHash());
+
+        AnimalsEntity cleared = animal(desertionNo, null, null);
+        write(writer, cleared);
+        assertStored(desertionNo, null, null, cleared.getContentHash());
+    }
+
+    private void assertStored(String desertionNo, String noticeEdt, String popfile2, Long contentHash) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT notice_edt, notice_end_date, popfile2, content_hash FROM abandoned_animals WHERE desertion_no = ?",
+                desertionNo);
+        assertThat(row.get("notice_edt")).isEqualTo(noticeEdt);
+        assertThat(row.get("popfile2")).isEqualTo(popfile2);
+        if (noticeEdt == null) {
+            assertThat(row.get("notice_end_date")).isNull();
+        } else {
+            assertThat(row.get("notice_end_date")).isNotNull();
+        }
+        assertThat(((Number) row.get("content_hash")).longValue()).isEqualTo(contentHash);
+    }
+
+    // Step과 동일하게 Chunk 하나를 하나의 트랜잭션으로 기록 (Writer가 실행 번호를 Step 컨텍스트에서 읽음)
+    private void write(ItemWriter<AnimalsEntity> writer, AnimalsEntity animal) {
+        StepSynchronizationManager.register(new StepExecution("apiToDbStep",
+                new JobExecution(new JobInstance(1L, "syncAnimalJob"), 1L, new JobParameters())));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try {
+                    writer.write(new Chunk<>(List.of(animal)));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    private static AnimalsEntity animal(String desertionNo, String noticeEdt, String popfile2) {
+        AnimalsEntity animal = AnimalsEntity.builder()
+                .desertionNo(desertionNo)
+                .happenDt("20250610")
+                .upKindNm("개")
+                .kindNm("믹스견")
+                .age("2023(년생)")
+                .weight("3(Kg)")
+                .noticeSdt("20250611")
+                .noticeEdt(noticeEdt)
+                .popfile1("http://example.com/1.jpg")
+                .popfile2(popfile2)
+                .processState("보호중")
+                .sexCd(AnimalsEntity.SexCode.M)
+                .neuterYn(AnimalsEntity.NeuterYn.N)
+                .careNm("화성시동물보호센터")
+                .orgNm("경기도 화성시")
+                .build();
+        animal.refreshTypedFields();
+        animal.refreshContentHash();
+        return animal;
+    }
+}
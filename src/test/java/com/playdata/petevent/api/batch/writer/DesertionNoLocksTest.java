@@ -0,0 +1,107 @@
+package com.playdata.petevent.api.batch.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * 같은 유기번호를 점유한 다른 트랜잭션이 끝날 때까지 기다리고, 겹치지 않으면 기다리지 않는지 확인.
+ */
+class DesertionNoLocksTest {
+
+    private final DesertionNoLocks locks = new DesertionNoLocks();
+
+    private final ExecutorService otherPartition = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        otherPartition.shutdownNow();
+    }
+
+    @Test
+    void overlappingClaimWaitsUntilTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        locks.claimUntilCompletion(List.of("448000202500001", "448000202500002"));
+
+        CompletableFuture<Void> other = CompletableFuture.runAsync(
+                () -> inTransaction(List.of("448000202500002", "448000202500003")), otherPartition);
+        assertThat(waitFor(other)).isFalse();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(waitFor(other)).isTrue();
+    }
+
+    @Test
+    void rollbackAlsoReleases() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        locks.claimUntilCompletion(List.of("448000202500001"));
+
+        CompletableFuture<Void> other = CompletableFuture.runAsync(
+                () -> inTransaction(List.of("448000202500001")), otherPartition);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(waitFor(other)).isTrue();
+    }
+
+    @Test
+    void disjointClaimDoesNotWait() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        locks.claimUntilCompletion(List.of("448000202500001"));
+
+        CompletableFuture<Void> other = CompletableFuture.runAsync(
+                () -> inTransaction(List.of("448000202500002")), otherPartition);
+
+        assertThat(waitFor(other)).isTrue();
+    }
+
+    @Test
+    void sameTransactionCanClaimAgain() {
+        TransactionSynchronizationManager.initSynchronization();
+        locks.claimUntilCompletion(List.of("448000202500001"));
+        locks.claimUntilCompletion(List.of("448000202500001", "448000202500002"));
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(2);
+    }
+
+    // 다른 파티션의 Chunk 트랜잭션: 점유 후 바로 커밋
+    private void inTransaction(List<String> desertionNos) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            locks.claimUntilCompletion(desertionNos);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+
+    // 제한 시간 안에 끝났으면 true
+    private static boolean waitFor(CompletableFuture<Void> future) throws Exception {
+        try {
+            future.get(300, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+}
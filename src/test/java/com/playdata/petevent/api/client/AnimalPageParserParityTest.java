@@ -0,0 +1,96 @@
+package com.playdata.petevent.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.playdata.petevent.api.batch.reader.AnimalPage;
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 파서(기본)와 트리 파서가 같은 응답에서 같은 엔티티를 만드는지 확인.
+ * (파서를 바꿔도 content_hash가 달라져 전체 데이터가 다시 저장되는 일이 없어야 함)
+ */
+class AnimalPageParserParityTest {
+
+    private final AnimalPageParser treeParser = new JsonTreeAnimalPageParser();
+
+    private final AnimalPageParser streamingParser = new StreamingAnimalPageParser();
+
+    @Test
+    void recordedPageParsesIdentically() throws IOException {
+        byte[] page;
+        // 실제 API 응답 형식으로 기록해 둔 페이지 (JMH 벤치마크와 같은 파일)
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/abandonment-page.json")) {
+            page = in.readAllBytes();
+        }
+
+        AnimalPage tree = treeParser.parse("protect", 1, new ByteArrayInputStream(page));
+        AnimalPage streaming = streamingParser.parse("protect", 1, new ByteArrayInputStream(page));
+
+        assertThat(tree.totalCount()).isEqualTo(8734);
+        assertThat(tree.items()).hasSize(100);
+        assertThat(streaming).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    @Test
+    void singleItemObjectWithNullAndNumericValuesParsesIdentically() throws IOException {
+        String json = """
+                {"response":{"header":{"resultCode":"00"},"body":{"items":{"item":{
+                  "desertionNo":"448000202500001","rfidCd":null,"happenDt":"20250610","kindNm":"믹스견",
+                  "age":"2023(년생)","weight":3,"noticeSdt":"20250611","noticeEdt":null,
+                  "neuterYn":"Y","careNm":"화성시동물보호센터","kindCd":"000112","extra":{"nested":[1,2]}
+                }},"numOfRows":1,"pageNo":1,"totalCount":1}}}
+                """;
+
+        AnimalPage tree = parse(treeParser, json);
+        AnimalPage streaming = parse(streamingParser, json);
+
+        assertThat(tree.items()).hasSize(1);
+        AnimalsEntity animal = tree.items().get(0);
+        assertThat(animal.getWeight()).isEqualTo("3");
+        assertThat(animal.getRfidCd()).isNull();
+        assertThat(animal.getNoticeEdt()).isNull();
+        assertThat(animal.getSexCd()).isEqualTo(AnimalsEntity.SexCode.Q); // 없으면 미상
+        assertThat(streaming).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    @Test
+    void nullDesertionNoParsesToEmptyString() throws IOException {
+        // 빈 유기번호는 Processor에서 걸러짐 ("null" 문자열이면 그대로 PK로 저장됨)
+        String json = """
+                {"response":{"body":{"items":{"item":[
+                  {"desertionNo":null,"kindNm":"믹스견","sexCd":"F"},
+                  {"kindNm":"코리안숏헤어","sexCd":"M"}
+                ]},"totalCount":2}}}
+                """;
+
+        AnimalPage tree = parse(treeParser, json);
+        AnimalPage streaming = parse(streamingParser, json);
+
+        assertThat(tree.items()).extracting(AnimalsEntity::getDesertionNo).containsExactly("", "");
+        assertThat(streaming).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    @Test
+    void emptyItemsParsesIdentically() throws IOException {
+        // 데이터가 없으면 items가 빈 문자열로 내려옴
+        String json = """
+                {"response":{"header":{"resultCode":"00"},"body":{"items":"","numOfRows":500,"pageNo":3,"totalCount":1000}}}
+                """;
+
+        AnimalPage tree = parse(treeParser, json);
+        AnimalPage streaming = parse(streamingParser, json);
+
+        assertThat(tree.items()).isEmpty();
+        assertThat(tree.totalCount()).isEqualTo(1000);
+        assertThat(streaming).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    private static AnimalPage parse(AnimalPageParser parser, String json) throws IOException {
+        return parser.parse("protect", 1, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,82 @@
+package com.playdata.petevent.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.playdata.petevent.api.entity.AnimalsEntity;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 내용 지문이 null/빈 문자열, 필드 경계, 변환 컬럼 차이를 구분하는지 확인.
+ */
+class AnimalFingerprintTest {
+
+    @Test
+    void sameContentGivesSameFingerprint() {
+        assertThat(AnimalFingerprint.of(animal().build())).isEqualTo(AnimalFingerprint.of(animal().build()));
+    }
+
+    @Test
+    void desertionNoIsNotPartOfFingerprint() {
+        assertThat(AnimalFingerprint.of(animal().desertionNo("448000202500002").build()))
+                .isEqualTo(AnimalFingerprint.of(animal().build()));
+    }
+
+    @Test
+    void nullDiffersFromEmptyString() {
+        assertThat(AnimalFingerprint.of(animal().rfidCd(null).build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().rfidCd("").build()));
+        assertThat(AnimalFingerprint.of(animal().etcBigo(null).build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().etcBigo("").build()));
+    }
+
+    @Test
+    void nullEnumDiffersFromUnknownCode() {
+        assertThat(AnimalFingerprint.of(animal().sexCd(null).build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().sexCd(AnimalsEntity.SexCode.Q).build()));
+    }
+
+    @Test
+    void nullNumberDiffersFromZero() {
+        assertThat(AnimalFingerprint.of(animal().weightGrams(null).build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().weightGrams(0).build()));
+    }
+
+    @Test
+    void valueShiftedToNeighbourFieldChangesFingerprint() {
+        assertThat(AnimalFingerprint.of(animal().careNm("화성시").careTel("031-000-0000").build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().careNm("화성시031-000-0000").careTel(null).build()));
+        assertThat(AnimalFingerprint.of(animal().careNm("ab").careTel("c").build()))
+                .isNotEqualTo(AnimalFingerprint.of(animal().careNm("a").careTel("bc").build()));
+    }
+
+    @Test
+    void typedFieldsArePartOfFingerprint() {
+        AnimalsEntity animal = animal().build();
+        long beforeTyped = AnimalFingerprint.of(animal);
+
+        animal.refreshTypedFields();
+
+        assertThat(animal.getWeightGrams()).isEqualTo(3000);
+        assertThat(AnimalFingerprint.of(animal)).isNotEqualTo(beforeTyped);
+    }
+
+    private static AnimalsEntity.AnimalsEntityBuilder animal() {
+        return AnimalsEntity.builder()
+                .desertionNo("448000202500001")
+                .rfidCd("410090687275905")
+                .happenDt("20250610")
+                .upKindNm("개")
+                .kindNm("믹스견")
+                .age("2023(년생)")
+                .weight("3(Kg)")
+                .noticeSdt("20250611")
+                .noticeEdt("20250621")
+                .processState("보호중")
+                .sexCd(AnimalsEntity.SexCode.M)
+                .neuterYn(AnimalsEntity.NeuterYn.N)
+                .careNm("화성시동물보호센터")
+                .careTel("031-000-0000")
+                .orgNm("경기도 화성시")
+                .etcBigo("기타");
+    }
+}
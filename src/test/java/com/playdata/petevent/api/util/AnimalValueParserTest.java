@@ -0,0 +1,79 @@
+package com.playdata.petevent.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.Year;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * API 문자열 값(체중, 나이, 날짜) 변환 규칙 확인.
+ * 실제 응답에 나오는 표기 차이는 변환되고, 해석할 수 없는 값은 예외 없이 null이 되어야 한다.
+ */
+class AnimalValueParserTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "3(Kg)      | 3000",
+            "0.5(Kg)    | 500",
+            "18.5(Kg)   | 18500",
+            "2,3kg      | 2300",
+            "0,5        | 500",
+            "800g       | 800",
+            "800(g)     | 800",
+            "1.2345(Kg) | 1234", // 그램 단위 아래는 버림
+            "5.(Kg)     | 5000"
+    })
+    void parseWeightGrams(String value, int grams) {
+        assertThat(AnimalValueParser.parseWeightGrams(value)).isEqualTo(grams);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "미상", "(Kg)", "0(Kg)", "0.0(Kg)", "300(Kg)", "99999999999999999999(Kg)"})
+    void parseWeightGramsRejectsUnknownOrOutOfRange(String value) {
+        assertThat(AnimalValueParser.parseWeightGrams(value)).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2023(년생)           | 2023",
+            "2025(60일미만)(년생) | 2025",
+            "2016                | 2016",
+            "1990(년생)           | 1990"
+    })
+    void parseBirthYear(String value, int year) {
+        assertThat(AnimalValueParser.parseBirthYear(value)).isEqualTo(year);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "60일미만", "1989(년생)", "20231(년생)", "23(년생)"})
+    void parseBirthYearRejectsUnknownOrOutOfRange(String value) {
+        assertThat(AnimalValueParser.parseBirthYear(value)).isNull();
+    }
+
+    @Test
+    void parseBirthYearAllowsOnlyNextYear() {
+        int nextYear = Year.now().getValue() + 1;
+        assertThat(AnimalValueParser.parseBirthYear(nextYear + "(년생)")).isEqualTo(nextYear);
+        assertThat(AnimalValueParser.parseBirthYear((nextYear + 1) + "(년생)")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"20250510", "2025-05-10", "2025.05.10", "2025/05/10"})
+    void parseDate(String value) {
+        assertThat(AnimalValueParser.parseDate(value)).isEqualTo(LocalDate.of(2025, 5, 10));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "202505", "202505101", "20251310", "20250230", "날짜 미상"})
+    void parseDateRejectsInvalid(String value) {
+        assertThat(AnimalValueParser.parseDate(value)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.playdata.petevent.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongHashSet의 빈 칸 표시값(0) 처리와 확장(rehash) 후 조회 확인.
+ */
+class LongHashSetTest {
+
+    @Test
+    void zeroIsStoredSeparatelyFromEmptySlots() {
+        LongHashSet set = new LongHashSet();
+        assertThat(set.contains(0L)).isFalse();
+
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+
+        assertThat(set.add(1L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsAllValuesAcrossResize() {
+        // 최소 크기(16칸)에서 시작해 여러 번 두 배로 확장되도록 추가
+        LongHashSet set = new LongHashSet(1);
+        int count = 10_000;
+        long base = 448_000_202_500_000L; // 실제 유기번호처럼 연속된 큰 값
+        for (int i = 0; i < count; i++) {
+            assertThat(set.add(base + i)).isTrue();
+            assertThat(set.add(-(base + i))).isTrue();
+        }
+        assertThat(set.add(0L)).isTrue();
+
+        assertThat(set.size()).isEqualTo(count * 2 + 1);
+        for (int i = 0; i < count; i++) {
+            assertThat(set.contains(base + i)).isTrue();
+            assertThat(set.contains(-(base + i))).isTrue();
+            assertThat(set.add(base + i)).isFalse();
+        }
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(base + count)).isFalse();
+        assertThat(set.contains(Long.MIN_VALUE)).isFalse();
+    }
+
+    @Test
+    void clearRemovesZeroToo() {
+        LongHashSet set = new LongHashSet();
+        set.add(0L);
+        set.add(42L);
+
+        set.clear();
+
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.contains(42L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+    }
+}